@@ -0,0 +1,149 @@
+package edu.eci.arsw.pc.bench;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Control;
+
+import edu.eci.arsw.pc.WaitStrategy;
+import edu.eci.arsw.pc.WorkQueue;
+import edu.eci.arsw.pc.WorkQueues;
+
+/**
+ * Productor/consumidor asimétrico con {@code @Group}: cada grupo fija cuántos
+ * hilos ponen y cuántos sacan ({@code p1c1}, {@code p4c1}, ...). Otras
+ * combinaciones se piden con {@code -tg P,C} sobre cualquier grupo.
+ *
+ * <p>Cualquier {@link WorkQueue} registrada en {@link WorkQueues} se mide
+ * con el mismo arnés ({@code -p impl=...}). Las operaciones son temporizadas y
+ * reintentan mientras la medición siga activa: así un hilo bloqueado con la
+ * cola llena/vacía puede salir al terminar cada iteración.
+ *
+ * <p>{@code mmap} no está en la lista por defecto (mide el disco); se pide
+ * con {@code -p impl=mmap}.
+ *
+ * <p>{@code wait} elige la {@link WaitStrategy} de {@code spin} y {@code ring}.
+ */
+@State(Scope.Group)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueueBenchmark {
+
+  private static final long WAIT_MICROS = 100;
+  private static final Long ITEM = 42L;
+
+  @Param({ "monitor", "spin", "ring", "condition", "twolock", "long", "abq", "lbq", "ltq", "sharded" })
+  public String impl;
+
+  @Param({ "16", "1024" })
+  public int capacity;
+
+  @Param({ "spin" })
+  public String wait;
+
+  private WorkQueue<Long> queue;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    queue = WorkQueues.create(impl, capacity, false, WaitStrategy.of(wait));
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() throws IOException {
+    if (queue instanceof Closeable c) // mmap: libera los archivos antes de reabrirlos
+      c.close();
+  }
+
+  private void put(Control control) throws InterruptedException {
+    while (!queue.offer(ITEM, WAIT_MICROS, TimeUnit.MICROSECONDS)) {
+      if (control.stopMeasurement)
+        return;
+      Thread.onSpinWait();
+    }
+  }
+
+  private Long take(Control control) throws InterruptedException {
+    Long v;
+    while ((v = queue.poll(WAIT_MICROS, TimeUnit.MICROSECONDS)) == null) {
+      if (control.stopMeasurement)
+        return null;
+      Thread.onSpinWait();
+    }
+    return v;
+  }
+
+  @Benchmark
+  @Group("p1c1")
+  @GroupThreads(1)
+  public void p1c1Put(Control control) throws InterruptedException {
+    put(control);
+  }
+
+  @Benchmark
+  @Group("p1c1")
+  @GroupThreads(1)
+  public Long p1c1Take(Control control) throws InterruptedException {
+    return take(control);
+  }
+
+  @Benchmark
+  @Group("p4c1")
+  @GroupThreads(4)
+  public void p4c1Put(Control control) throws InterruptedException {
+    put(control);
+  }
+
+  @Benchmark
+  @Group("p4c1")
+  @GroupThreads(1)
+  public Long p4c1Take(Control control) throws InterruptedException {
+    return take(control);
+  }
+
+  @Benchmark
+  @Group("p1c4")
+  @GroupThreads(1)
+  public void p1c4Put(Control control) throws InterruptedException {
+    put(control);
+  }
+
+  @Benchmark
+  @Group("p1c4")
+  @GroupThreads(4)
+  public Long p1c4Take(Control control) throws InterruptedException {
+    return take(control);
+  }
+
+  @Benchmark
+  @Group("p4c4")
+  @GroupThreads(4)
+  public void p4c4Put(Control control) throws InterruptedException {
+    put(control);
+  }
+
+  @Benchmark
+  @Group("p4c4")
+  @GroupThreads(4)
+  public Long p4c4Take(Control control) throws InterruptedException {
+    return take(control);
+  }
+}
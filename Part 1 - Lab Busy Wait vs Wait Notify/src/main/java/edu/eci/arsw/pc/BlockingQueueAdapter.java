@@ -0,0 +1,55 @@
+package edu.eci.arsw.pc;
+
+import java.util.Collection;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/** Adapta cualquier {@link BlockingQueue} de {@code java.util.concurrent} a {@link WorkQueue}. */
+public final class BlockingQueueAdapter<T> implements WorkQueue<T> {
+  private final BlockingQueue<T> q;
+  private final int capacity;
+
+  public BlockingQueueAdapter(BlockingQueue<T> q) {
+    this.q = q;
+    long total = (long) q.size() + q.remainingCapacity();
+    this.capacity = (int) Math.min(Integer.MAX_VALUE, total);
+  }
+
+  @Override
+  public void put(T item) throws InterruptedException {
+    q.put(item);
+  }
+
+  @Override
+  public T take() throws InterruptedException {
+    return q.take();
+  }
+
+  @Override
+  public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+    return q.offer(item, timeout, unit);
+  }
+
+  @Override
+  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+    return q.poll(timeout, unit);
+  }
+
+  @Override
+  public int drainTo(Collection<? super T> sink, int max) throws InterruptedException {
+    if (max <= 0)
+      throw new IllegalArgumentException("max must be > 0");
+    sink.add(q.take());
+    return 1 + q.drainTo(sink, max - 1);
+  }
+
+  @Override
+  public int size() {
+    return q.size();
+  }
+
+  @Override
+  public int capacity() {
+    return capacity;
+  }
+}
@@ -1,12 +1,19 @@
 package edu.eci.arsw.pc;
 
 import java.util.ArrayDeque;
+import java.util.Collection;
 import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
 
-/** Implementación correcta con monitores: synchronized + wait/notifyAll. */
-public final class BoundedBuffer<T> {
+/**
+ * Implementación correcta con monitores: synchronized + wait/notifyAll.
+ * Soporta {@link #shutdown()}.
+ */
+public final class BoundedBuffer<T> implements WorkQueue<T> {
   private final Deque<T> q = new ArrayDeque<>();
   private final int capacity;
+  private boolean closed;
 
   public BoundedBuffer(int capacity) {
     if (capacity <= 0)
@@ -14,19 +21,23 @@ public final class BoundedBuffer<T> {
     this.capacity = capacity;
   }
 
+  @Override
   public void put(T item) throws InterruptedException {
     synchronized (this) {
-      while (q.size() == capacity) {
+      while (q.size() == capacity && !closed) {
         this.wait(); // espera hasta que haya espacio
       }
+      ensureOpen();
       q.addLast(item);
       this.notifyAll(); // despierta consumidores
     }
   }
 
+  @Override
   public T take() throws InterruptedException {
     synchronized (this) {
       while (q.isEmpty()) {
+        ensureOpen(); // cerrada y vacía: no va a llegar nada más
         this.wait(); // espera hasta que haya elementos
       }
       T v = q.removeFirst();
@@ -35,11 +46,110 @@ public final class BoundedBuffer<T> {
     }
   }
 
+  /** Como {@link #put}, pero se rinde tras {@code timeout}; retorna false si no hubo espacio. */
+  @Override
+  public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    synchronized (this) {
+      long deadline = System.nanoTime() + nanos;
+      while (q.size() == capacity && !closed) {
+        if (nanos <= 0)
+          return false;
+        TimeUnit.NANOSECONDS.timedWait(this, nanos);
+        nanos = deadline - System.nanoTime();
+      }
+      ensureOpen();
+      q.addLast(item);
+      this.notifyAll(); // despierta consumidores
+      return true;
+    }
+  }
+
+  /** Como {@link #take}, pero se rinde tras {@code timeout}; retorna null si no hubo elementos. */
+  @Override
+  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    synchronized (this) {
+      long deadline = System.nanoTime() + nanos;
+      while (q.isEmpty()) {
+        ensureOpen();
+        if (nanos <= 0)
+          return null;
+        TimeUnit.NANOSECONDS.timedWait(this, nanos);
+        nanos = deadline - System.nanoTime();
+      }
+      T v = q.removeFirst();
+      this.notifyAll(); // despierta productores
+      return v;
+    }
+  }
+
+  /**
+   * Encola todos los elementos tomando el monitor una vez por tramo: inserta
+   * cuantos quepan, despierta a los consumidores una sola vez y sólo vuelve a
+   * esperar si aún quedan elementos.
+   */
+  @Override
+  public void putAll(Collection<? extends T> items) throws InterruptedException {
+    Iterator<? extends T> it = items.iterator();
+    synchronized (this) {
+      while (it.hasNext()) {
+        while (q.size() == capacity && !closed) {
+          this.wait(); // espera hasta que haya espacio
+        }
+        ensureOpen();
+        while (q.size() < capacity && it.hasNext()) {
+          q.addLast(it.next());
+        }
+        this.notifyAll(); // un solo despertar por tramo
+      }
+    }
+  }
+
+  /**
+   * Espera hasta que haya al menos un elemento y mueve hasta {@code max}
+   * elementos a {@code sink} bajo una sola adquisición del monitor.
+   *
+   * @return cantidad de elementos transferidos (siempre &gt;= 1)
+   */
+  @Override
+  public int drainTo(Collection<? super T> sink, int max) throws InterruptedException {
+    if (max <= 0)
+      throw new IllegalArgumentException("max must be > 0");
+    synchronized (this) {
+      while (q.isEmpty()) {
+        ensureOpen();
+        this.wait(); // espera hasta que haya elementos
+      }
+      int n = 0;
+      while (n < max && !q.isEmpty()) {
+        sink.add(q.removeFirst());
+        n++;
+      }
+      this.notifyAll(); // un solo despertar para todo el lote
+      return n;
+    }
+  }
+
+  @Override
   public synchronized int size() {
     return q.size();
   }
 
+  @Override
   public int capacity() {
     return capacity;
   }
+
+  @Override
+  public synchronized boolean shutdown() {
+    closed = true;
+    this.notifyAll(); // despierta a todos: productores y consumidores
+    return true;
+  }
+
+  private void ensureOpen() {
+    if (closed)
+      throw new QueueClosedException();
+  }
 }
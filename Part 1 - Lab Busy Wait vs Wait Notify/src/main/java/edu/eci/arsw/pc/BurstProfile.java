@@ -0,0 +1,38 @@
+package edu.eci.arsw.pc;
+
+/**
+ * Perfil de productor a ráfagas: {@code onMs} produciendo (con el
+ * {@code prodDelayMs} de siempre entre elementos) y {@code offMs} en
+ * silencio, repetido. Se pide con {@code -Dburst=onMs:offMs}.
+ */
+public record BurstProfile(long onMs, long offMs) {
+
+  public BurstProfile {
+    if (onMs <= 0 || offMs < 0)
+      throw new IllegalArgumentException("burst needs onMs > 0 and offMs >= 0");
+  }
+
+  /** {@code "200:800"} → ráfagas de 200 ms cada segundo; null o vacío → sin ráfagas. */
+  public static BurstProfile parse(String spec) {
+    if (spec == null || spec.isBlank())
+      return null;
+    String[] p = spec.trim().split(":");
+    if (p.length != 2)
+      throw new IllegalArgumentException("burst must be onMs:offMs, got " + spec);
+    return new BurstProfile(Long.parseLong(p[0]), Long.parseLong(p[1]));
+  }
+
+  /**
+   * Si {@code elapsedMs} (desde el inicio de la corrida) cae en un silencio,
+   * cuánto falta para la próxima ráfaga; 0 si está en ráfaga.
+   */
+  public long quietMsLeft(long elapsedMs) {
+    long phase = elapsedMs % (onMs + offMs);
+    return phase < onMs ? 0 : onMs + offMs - phase;
+  }
+
+  @Override
+  public String toString() {
+    return onMs + ":" + offMs;
+  }
+}
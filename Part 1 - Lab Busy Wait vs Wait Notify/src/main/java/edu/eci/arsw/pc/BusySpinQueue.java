@@ -1,40 +1,119 @@
 package edu.eci.arsw.pc;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
-/** Intencionalmente incorrecta: usa busy-wait (alto CPU). */
-public final class BusySpinQueue<T> {
-  private final Deque<T> q = new ArrayDeque<>();
+/**
+ * Intencionalmente ineficiente con la estrategia por defecto: usa busy-wait
+ * (alto CPU). Es thread-safe con varios productores y consumidores; el cupo
+ * se reserva con un contador atómico antes de encolar. Con otra
+ * {@link WaitStrategy} se puede ceder CPU a cambio de latencia.
+ */
+public final class BusySpinQueue<T> implements WorkQueue<T> {
+  private final Queue<T> q = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger count = new AtomicInteger();
   private final int capacity;
+  private final WaitStrategy wait;
 
   public BusySpinQueue(int capacity) {
+    this(capacity, WaitStrategy.busySpin());
+  }
+
+  public BusySpinQueue(int capacity, WaitStrategy wait) {
     this.capacity = capacity;
+    this.wait = wait;
   }
 
-  public void put(T item) {
+  @Override
+  public void put(T item) throws InterruptedException {
     // spin hasta que haya espacio
-    while (true) {
-      if (q.size() < capacity) {
-        q.addLast(item);
-        return;
-      }
-      // espera activa
-      Thread.onSpinWait();
+    int attempt = 0;
+    while (!offer(item)) {
+      if (Thread.interrupted())
+        throw new InterruptedException();
+      wait.idle(attempt++); // espera activa (o la que diga la estrategia)
     }
   }
 
-  public T take() {
+  @Override
+  public T take() throws InterruptedException {
     // spin hasta que haya elementos
+    int attempt = 0;
     while (true) {
-      T v = q.pollFirst();
+      T v = poll();
       if (v != null)
         return v;
-      Thread.onSpinWait();
+      if (Thread.interrupted())
+        throw new InterruptedException();
+      wait.idle(attempt++);
+    }
+  }
+
+  /** Un solo intento, sin esperar; retorna false si está llena. */
+  public boolean offer(T item) {
+    if (item == null)
+      throw new NullPointerException("item");
+    if (count.incrementAndGet() > capacity) {
+      count.decrementAndGet(); // no había cupo: se devuelve la reserva
+      return false;
+    }
+    q.add(item);
+    return true;
+  }
+
+  /** Un solo intento, sin esperar; retorna null si está vacía. */
+  public T poll() {
+    T v = q.poll();
+    if (v != null)
+      count.decrementAndGet();
+    return v;
+  }
+
+  /** Reintenta {@link #offer(Object)} con la estrategia de espera hasta {@code timeout}. */
+  @Override
+  public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    int attempt = 0;
+    while (!offer(item)) {
+      if (System.nanoTime() - deadline >= 0)
+        return false;
+      if (Thread.interrupted())
+        throw new InterruptedException();
+      wait.idle(attempt++);
+    }
+    return true;
+  }
+
+  /** Reintenta {@link #poll()} con la estrategia de espera hasta {@code timeout}. */
+  @Override
+  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    int attempt = 0;
+    T v;
+    while ((v = poll()) == null) {
+      if (System.nanoTime() - deadline >= 0)
+        return null;
+      if (Thread.interrupted())
+        throw new InterruptedException();
+      wait.idle(attempt++);
     }
+    return v;
   }
 
+  /**
+   * Cupo reservado: incluye elementos que se están encolando. Un
+   * {@link #offer(Object)} fallido sube el contador por un instante antes de
+   * devolver la reserva, así que se acota a la capacidad.
+   */
+  @Override
   public int size() {
-    return q.size();
+    return Math.min(count.get(), capacity);
+  }
+
+  @Override
+  public int capacity() {
+    return capacity;
   }
 }
@@ -0,0 +1,189 @@
+package edu.eci.arsw.pc;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Variante de {@link BoundedBuffer} con un lock y dos condiciones
+ * (no-lleno / no-vacío).
+ *
+ * <p>Cada operación despierta a lo sumo un hilo del lado contrario y sólo si
+ * hay alguien esperando, en lugar de {@code notifyAll()} sobre un único
+ * monitor por cada elemento. {@link #shutdown()} despierta a todos los que
+ * esperan en ambas condiciones.
+ */
+public final class ConditionBoundedBuffer<T> implements WorkQueue<T> {
+  private final Deque<T> q = new ArrayDeque<>();
+  private final int capacity;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition notFull = lock.newCondition();
+  private final Condition notEmpty = lock.newCondition();
+  private int waitingProducers; // protegidos por lock
+  private int waitingConsumers;
+  private boolean closed;
+
+  public ConditionBoundedBuffer(int capacity) {
+    if (capacity <= 0)
+      throw new IllegalArgumentException("capacity must be > 0");
+    this.capacity = capacity;
+  }
+
+  @Override
+  public void put(T item) throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (q.size() == capacity && !closed) {
+        waitingProducers++;
+        try {
+          notFull.await(); // espera hasta que haya espacio
+        } finally {
+          waitingProducers--;
+        }
+      }
+      ensureOpen();
+      q.addLast(item);
+      if (waitingConsumers > 0)
+        notEmpty.signal(); // despierta un solo consumidor
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public T take() throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (q.isEmpty()) {
+        ensureOpen(); // cerrada y vacía: no va a llegar nada más
+        waitingConsumers++;
+        try {
+          notEmpty.await(); // espera hasta que haya elementos
+        } finally {
+          waitingConsumers--;
+        }
+      }
+      T v = q.removeFirst();
+      if (waitingProducers > 0)
+        notFull.signal(); // despierta un solo productor
+      return v;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (q.size() == capacity && !closed) {
+        if (nanos <= 0)
+          return false;
+        waitingProducers++;
+        try {
+          nanos = notFull.awaitNanos(nanos);
+        } finally {
+          waitingProducers--;
+        }
+      }
+      ensureOpen();
+      q.addLast(item);
+      if (waitingConsumers > 0)
+        notEmpty.signal();
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (q.isEmpty()) {
+        ensureOpen();
+        if (nanos <= 0)
+          return null;
+        waitingConsumers++;
+        try {
+          nanos = notEmpty.awaitNanos(nanos);
+        } finally {
+          waitingConsumers--;
+        }
+      }
+      T v = q.removeFirst();
+      if (waitingProducers > 0)
+        notFull.signal();
+      return v;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Espera un elemento y se lleva hasta {@code max} sin volver a esperar. */
+  @Override
+  public int drainTo(Collection<? super T> sink, int max) throws InterruptedException {
+    if (max <= 0)
+      throw new IllegalArgumentException("max must be > 0");
+    lock.lockInterruptibly();
+    try {
+      while (q.isEmpty()) {
+        ensureOpen();
+        waitingConsumers++;
+        try {
+          notEmpty.await();
+        } finally {
+          waitingConsumers--;
+        }
+      }
+      int n = 0;
+      while (n < max && !q.isEmpty()) {
+        sink.add(q.removeFirst());
+        n++;
+      }
+      if (waitingProducers > 0)
+        notFull.signalAll(); // se liberaron n lugares
+      return n;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int size() {
+    lock.lock();
+    try {
+      return q.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int capacity() {
+    return capacity;
+  }
+
+  @Override
+  public boolean shutdown() {
+    lock.lock();
+    try {
+      closed = true;
+      notFull.signalAll(); // aquí sí a todos: nadie más va a señalar
+      notEmpty.signalAll();
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void ensureOpen() {
+    if (closed)
+      throw new QueueClosedException();
+  }
+}
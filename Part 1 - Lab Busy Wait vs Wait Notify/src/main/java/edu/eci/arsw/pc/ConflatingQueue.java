@@ -0,0 +1,124 @@
+package edu.eci.arsw.pc;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Buffer que conserva sólo el último valor pendiente por clave: si llega un
+ * valor para una clave que ya está en cola, reemplaza al anterior en su
+ * mismo lugar (no pasa al final) y el viejo se descarta sin que ningún
+ * consumidor lo procese. Reemplazar nunca espera; sólo una clave nueva con
+ * el buffer lleno bloquea al productor.
+ *
+ * <p>Misma sincronización que {@link BoundedBuffer} (synchronized +
+ * wait/notifyAll) sobre un {@code LinkedHashMap} en orden de inserción.
+ */
+public final class ConflatingQueue<K, T> implements WorkQueue<T> {
+  private final LinkedHashMap<K, T> pending = new LinkedHashMap<>();
+  private final Function<? super T, ? extends K> keyOf;
+  private final int capacity;
+  private long conflated;
+
+  /** @param keyOf clave de cada elemento; valores con la misma clave se fusionan */
+  public ConflatingQueue(int capacity, Function<? super T, ? extends K> keyOf) {
+    if (capacity <= 0)
+      throw new IllegalArgumentException("capacity must be > 0");
+    this.capacity = capacity;
+    this.keyOf = keyOf;
+  }
+
+  @Override
+  public void put(T item) throws InterruptedException {
+    K key = keyOf.apply(item);
+    synchronized (this) {
+      while (!replace(key, item)) {
+        if (pending.size() < capacity) {
+          insert(key, item);
+          return;
+        }
+        this.wait(); // clave nueva y buffer lleno
+      }
+    }
+  }
+
+  @Override
+  public T take() throws InterruptedException {
+    synchronized (this) {
+      while (pending.isEmpty()) {
+        this.wait(); // espera hasta que haya elementos
+      }
+      T v = pending.pollFirstEntry().getValue();
+      this.notifyAll(); // despierta productores
+      return v;
+    }
+  }
+
+  @Override
+  public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+    K key = keyOf.apply(item);
+    long nanos = unit.toNanos(timeout);
+    synchronized (this) {
+      long deadline = System.nanoTime() + nanos;
+      while (!replace(key, item)) {
+        if (pending.size() < capacity) {
+          insert(key, item);
+          return true;
+        }
+        if (nanos <= 0)
+          return false;
+        TimeUnit.NANOSECONDS.timedWait(this, nanos);
+        nanos = deadline - System.nanoTime();
+      }
+      return true;
+    }
+  }
+
+  @Override
+  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    synchronized (this) {
+      long deadline = System.nanoTime() + nanos;
+      while (pending.isEmpty()) {
+        if (nanos <= 0)
+          return null;
+        TimeUnit.NANOSECONDS.timedWait(this, nanos);
+        nanos = deadline - System.nanoTime();
+      }
+      Map.Entry<K, T> e = pending.pollFirstEntry();
+      this.notifyAll();
+      return e.getValue();
+    }
+  }
+
+  /** Valores descartados porque llegó uno más nuevo para su clave. */
+  public synchronized long conflated() {
+    return conflated;
+  }
+
+  @Override
+  public synchronized int size() {
+    return pending.size();
+  }
+
+  @Override
+  public int capacity() {
+    return capacity;
+  }
+
+  /** Reemplaza el valor pendiente de {@code key}, si lo hay; retorna false si la clave no estaba. */
+  private boolean replace(K key, T item) {
+    if (item == null)
+      throw new NullPointerException("item");
+    if (pending.replace(key, item) == null)
+      return false;
+    conflated++;
+    return true;
+  }
+
+  private void insert(K key, T item) {
+    pending.put(key, item);
+    this.notifyAll(); // despierta consumidores
+  }
+}
@@ -1,45 +1,234 @@
 package edu.eci.arsw.pc;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Además de contar, registra por elemento (usando la marca de tiempo que
+ * puso {@link Producer}) dos latencias en histogramas propios del hilo:
+ * <ul>
+ * <li><b>residencia</b>: de la creación hasta que {@code take} lo entrega
+ * (incluye la espera del productor si la cola estaba llena);</li>
+ * <li><b>extremo a extremo</b>: hasta terminar de procesarlo
+ * ({@code delayMs} simulado).</li>
+ * </ul>
+ */
 public final class Consumer implements Runnable {
-  private final AtomicLong counter;
+  private final LongAdder counter;
   private final long delayMs;
-  private final Object queue; // BusySpinQueue<?> or BoundedBuffer<?>
+  private final WorkQueue<Long> queue;
+  private final int batchSize;
+  private final Resequencer resequencer;
+  private final LatencyHistogram residence = new LatencyHistogram();
+  private final LatencyHistogram endToEnd = new LatencyHistogram();
   private volatile boolean running = true;
+  private volatile long cpuNanos = -1;
+  private volatile long[] ctxSwitches;
+  private volatile Thread thread;
+  private volatile boolean pacing; // sólo se escribe con delayMs > 0
+  private AtomicLong stale; // se fija antes de arrancar
 
-  public Consumer(Object queue, AtomicLong counter, long delayMs) {
+  public Consumer(WorkQueue<Long> queue, LongAdder counter, long delayMs) {
+    this(queue, counter, delayMs, 1);
+  }
+
+  /**
+   * Con {@code batchSize > 1} cada iteración retira hasta {@code batchSize}
+   * elementos con {@link WorkQueue#drainTo}.
+   */
+  public Consumer(WorkQueue<Long> queue, LongAdder counter, long delayMs, int batchSize) {
     this.queue = queue;
     this.counter = counter;
     this.delayMs = delayMs;
+    this.batchSize = batchSize;
+    this.resequencer = null;
+  }
+
+  /**
+   * Consumidor ordenado: saca y numera con {@link Resequencer#claim}, procesa
+   * en paralelo con los demás y entrega con {@link Resequencer#complete}. El
+   * conteo y la latencia extremo a extremo (ya en orden) los lleva el
+   * {@code sink} del resequencer; aquí sólo se registra la residencia.
+   */
+  public Consumer(WorkQueue<Long> queue, long delayMs, Resequencer resequencer) {
+    this.queue = queue;
+    this.counter = null;
+    this.delayMs = delayMs;
+    this.batchSize = 1;
+    this.resequencer = resequencer;
   }
 
   public void stop() {
     running = false;
   }
 
+  /**
+   * Los próximos {@code stale} elementos que saquen los consumidores que
+   * comparten el contador no se miden: sus marcas de tiempo son de otra JVM
+   * ({@link MappedLongQueue#recovered()}). Llamar antes de arrancar.
+   */
+  public void skipStaleStamps(AtomicLong stale) {
+    this.stale = stale;
+  }
+
+  /** Descuenta un elemento de {@code stale}; true si era de los recuperados. */
+  static boolean stale(AtomicLong stale) {
+    return stale != null && stale.get() > 0 && stale.getAndDecrement() > 0;
+  }
+
+  /** CPU consumida por el hilo al terminar; -1 si sigue corriendo o es un hilo virtual. */
+  public long cpuNanos() {
+    return cpuNanos;
+  }
+
+  /**
+   * Cambios de contexto {voluntarios, involuntarios} del hilo al terminar;
+   * null si sigue corriendo, es un hilo virtual o no hay {@code /proc}.
+   */
+  public long[] ctxSwitches() {
+    return ctxSwitches;
+  }
+
+  /** Latencias de residencia en cola; leer sólo cuando el hilo terminó. */
+  public LatencyHistogram residence() {
+    return residence;
+  }
+
+  /** Latencias extremo a extremo; leer sólo cuando el hilo terminó. */
+  public LatencyHistogram endToEnd() {
+    return endToEnd;
+  }
+
+  /**
+   * Estado del hilo que corre este papel (null antes de arrancar). Bloqueado
+   * en {@code put}/{@code take} queda en WAITING, BLOCKED o, si la cola
+   * espera con plazo ({@code awaitNanos}, {@code parkNanos}), TIMED_WAITING.
+   * Leerlo no toca el camino caliente.
+   */
+  public Thread.State state() {
+    Thread t = thread;
+    return t == null ? null : t.getState();
+  }
+
+  /** Si está durmiendo el {@code delayMs} simulado y no en la cola; ver {@link #state()}. */
+  public boolean pacing() {
+    return pacing;
+  }
+
   @Override
   public void run() {
+    thread = Thread.currentThread();
+    try {
+      loop();
+    } catch (QueueClosedException closed) {
+      // apagado: la cola se cerró (y, para el consumidor, ya se vació)
+    } finally {
+      cpuNanos = ManagementFactory.getThreadMXBean().getCurrentThreadCpuTime();
+      ctxSwitches = ProcessStats.currentThreadCtxSwitches(); // el hilo es de esta tarea: todo lo suyo cuenta
+    }
+  }
+
+  private void loop() {
+    // se elige el ciclo una sola vez: dentro de cada uno la llamada es monomórfica
+    if (resequencer != null)
+      runOrdered();
+    else if (batchSize > 1)
+      runBatched();
+    else if (queue instanceof LongWorkQueue lq)
+      runPrimitive(lq);
+    else
+      runBoxed();
+  }
+
+  private void runBoxed() {
     try {
       while (running) {
-        long v;
-        if (queue instanceof BusySpinQueue<?> sp) {
-          @SuppressWarnings("unchecked")
-          BusySpinQueue<Long> q = (BusySpinQueue<Long>) sp;
-          v = q.take();
-        } else if (queue instanceof BoundedBuffer<?> bb) {
-          @SuppressWarnings("unchecked")
-          BoundedBuffer<Long> q = (BoundedBuffer<Long>) bb;
-          v = q.take();
-        } else {
-          v = -1;
+        long created = queue.take();
+        counter.increment();
+        consumed(created);
+      }
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void runPrimitive(LongWorkQueue q) {
+    try {
+      while (running) {
+        long created = q.takeLong(); // sin unboxing ni basura
+        counter.increment();
+        consumed(created);
+      }
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void runBatched() {
+    List<Long> batch = new ArrayList<>(batchSize);
+    try {
+      while (running) {
+        int n = queue.drainTo(batch, batchSize);
+        counter.add(n);
+        long taken = System.nanoTime();
+        int skip = 0; // la cola es FIFO: los recuperados van al principio
+        while (skip < n && stale(stale))
+          skip++;
+        for (int i = skip; i < n; i++)
+          residence.record(taken - batch.get(i));
+        for (int i = 0; i < n; i++) {
+          if (delayMs > 0)
+            delay(); // el costo simulado sigue siendo por elemento
+          if (i >= skip)
+            endToEnd.record(System.nanoTime() - batch.get(i));
         }
-        counter.incrementAndGet();
+        batch.clear();
+      }
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void runOrdered() {
+    long[] item = new long[1];
+    try {
+      while (running) {
+        long seq = resequencer.claim(queue, item);
+        long created = item[0];
+        if (!stale(stale))
+          residence.record(System.nanoTime() - created);
         if (delayMs > 0)
-          Thread.sleep(delayMs);
+          delay(); // el trabajo caro ocurre en paralelo, fuera del orden
+        resequencer.complete(seq, created);
       }
     } catch (InterruptedException ie) {
       Thread.currentThread().interrupt();
     }
   }
+
+  private void consumed(long created) throws InterruptedException {
+    long taken = System.nanoTime();
+    boolean measured = !stale(stale);
+    if (measured)
+      residence.record(taken - created);
+    if (delayMs > 0) {
+      delay();
+      if (measured)
+        endToEnd.record(System.nanoTime() - created);
+    } else if (measured) {
+      endToEnd.record(taken - created);
+    }
+  }
+
+  private void delay() throws InterruptedException {
+    pacing = true;
+    try {
+      Thread.sleep(delayMs);
+    } finally {
+      pacing = false;
+    }
+  }
 }
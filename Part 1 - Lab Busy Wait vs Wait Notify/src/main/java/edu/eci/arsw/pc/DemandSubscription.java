@@ -0,0 +1,85 @@
+package edu.eci.arsw.pc;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base de las suscripciones de {@link QueuePublisher} y {@link StampPublisher}:
+ * acumula la demanda de {@code request(n)} y, mientras haya demanda, entrega
+ * en una tarea del {@code executor}. Sin demanda la tarea termina: ningún
+ * hilo queda esperando a un suscriptor lento.
+ */
+abstract class DemandSubscription<T> implements Flow.Subscription {
+  protected final Flow.Subscriber<? super T> subscriber;
+  private final Executor executor;
+  private final AtomicLong demand = new AtomicLong();
+  private final AtomicBoolean running = new AtomicBoolean();
+  private volatile boolean cancelled;
+
+  DemandSubscription(Flow.Subscriber<? super T> subscriber, Executor executor) {
+    this.subscriber = subscriber;
+    this.executor = executor;
+  }
+
+  /**
+   * Entrega hasta {@code max} elementos con {@code subscriber.onNext}.
+   *
+   * @return cuántos entregó (0 si no había nada todavía)
+   */
+  protected abstract long emit(long max) throws InterruptedException;
+
+  protected final boolean isCancelled() {
+    return cancelled;
+  }
+
+  @Override
+  public final void request(long n) {
+    if (n <= 0) { // regla 3.9 de Reactive Streams
+      cancel();
+      subscriber.onError(new IllegalArgumentException("request must be > 0: " + n));
+      return;
+    }
+    demand.getAndAccumulate(n, (d, add) -> d + add < 0 ? Long.MAX_VALUE : d + add); // satura en "infinito"
+    schedule();
+  }
+
+  @Override
+  public final void cancel() {
+    cancelled = true;
+  }
+
+  private void schedule() {
+    if (cancelled || demand.get() == 0 || !running.compareAndSet(false, true))
+      return;
+    try {
+      executor.execute(this::drain);
+    } catch (RejectedExecutionException e) {
+      cancelled = true; // el executor ya se cerró
+      running.set(false);
+    }
+  }
+
+  private void drain() {
+    try {
+      long d;
+      while (!cancelled && (d = demand.get()) > 0) {
+        long n = emit(d);
+        if (n > 0)
+          demand.addAndGet(-n);
+      }
+    } catch (InterruptedException ie) {
+      cancelled = true; // el executor se está cerrando
+      return;
+    } catch (RuntimeException e) {
+      cancelled = true;
+      subscriber.onError(e);
+      return;
+    } finally {
+      running.set(false);
+    }
+    schedule(); // pudo llegar demanda entre la última lectura y soltar running
+  }
+}
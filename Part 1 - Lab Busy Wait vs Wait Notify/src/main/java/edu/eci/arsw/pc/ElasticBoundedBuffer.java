@@ -0,0 +1,242 @@
+package edu.eci.arsw.pc;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BoundedBuffer} cuya capacidad se mueve entre {@code min} y
+ * {@code max} según la carga, evaluada por ventanas de {@code windowMs}:
+ * <ul>
+ * <li><b>crece</b> (×2) si en la ventana los productores pasaron más del
+ * {@value #GROW_BLOCKED_PERCENT}% del tiempo bloqueados por buffer lleno, o
+ * si al cerrarla hay productores esperando con el buffer lleno;</li>
+ * <li><b>se encoge</b> (÷2, sin bajar de lo que tiene) si la ocupación
+ * máxima se quedó en un cuarto de la capacidad durante
+ * {@value #SHRINK_WINDOWS} ventanas seguidas. Al encogerse se copia a un
+ * arreglo nuevo para devolver la memoria.</li>
+ * </ul>
+ * La evaluación ocurre dentro de las operaciones (con el monitor tomado),
+ * sin hilos aparte. Soporta {@link #shutdown()} como {@link BoundedBuffer}.
+ */
+public final class ElasticBoundedBuffer<T> implements WorkQueue<T> {
+  static final int GROW_BLOCKED_PERCENT = 5;
+  static final int SHRINK_WINDOWS = 3;
+
+  private final int min;
+  private final int max;
+  private final long windowNanos;
+  private ArrayDeque<T> q;
+  private int capacity;
+  private boolean closed;
+
+  // ventana actual
+  private long windowStart = System.nanoTime();
+  private long blockedNanos;
+  private int peakSize;
+  private int waitingProducers;
+  private int quietWindows;
+
+  // totales
+  private final long created = windowStart;
+  private double capacityNanos; // integral de la capacidad en el tiempo
+  private long lastChange = windowStart;
+  private long totalBlockedNanos;
+  private int grows;
+  private int shrinks;
+  private int peakCapacity;
+
+  public ElasticBoundedBuffer(int min, int max, long windowMs) {
+    if (min <= 0 || max < min)
+      throw new IllegalArgumentException("need 0 < min <= max, got min=" + min + " max=" + max);
+    if (windowMs <= 0)
+      throw new IllegalArgumentException("windowMs must be > 0");
+    this.min = min;
+    this.max = max;
+    this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+    this.capacity = min;
+    this.peakCapacity = min;
+    this.q = new ArrayDeque<>(min);
+  }
+
+  @Override
+  public void put(T item) throws InterruptedException {
+    synchronized (this) {
+      adjust();
+      if (q.size() >= capacity) {
+        long t0 = System.nanoTime();
+        waitingProducers++;
+        try {
+          while (q.size() >= capacity && !closed) {
+            this.wait(); // espera hasta que haya espacio (o crezca)
+          }
+        } finally {
+          waitingProducers--;
+          blocked(System.nanoTime() - t0);
+        }
+      }
+      ensureOpen();
+      add(item);
+    }
+  }
+
+  @Override
+  public T take() throws InterruptedException {
+    synchronized (this) {
+      adjust();
+      while (q.isEmpty()) {
+        ensureOpen(); // cerrada y vacía: no va a llegar nada más
+        this.wait(); // espera hasta que haya elementos
+      }
+      return remove();
+    }
+  }
+
+  @Override
+  public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    synchronized (this) {
+      adjust();
+      if (q.size() >= capacity) {
+        long t0 = System.nanoTime();
+        long deadline = t0 + nanos;
+        waitingProducers++;
+        try {
+          while (q.size() >= capacity && !closed) {
+            if (nanos <= 0)
+              return false;
+            TimeUnit.NANOSECONDS.timedWait(this, nanos);
+            nanos = deadline - System.nanoTime();
+          }
+        } finally {
+          waitingProducers--;
+          blocked(System.nanoTime() - t0);
+        }
+      }
+      ensureOpen();
+      add(item);
+      return true;
+    }
+  }
+
+  @Override
+  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    synchronized (this) {
+      adjust();
+      long deadline = System.nanoTime() + nanos;
+      while (q.isEmpty()) {
+        ensureOpen();
+        if (nanos <= 0)
+          return null;
+        TimeUnit.NANOSECONDS.timedWait(this, nanos);
+        nanos = deadline - System.nanoTime();
+      }
+      return remove();
+    }
+  }
+
+  /** Como {@link BoundedBuffer#drainTo}: un despertar por lote. */
+  @Override
+  public int drainTo(Collection<? super T> sink, int max) throws InterruptedException {
+    if (max <= 0)
+      throw new IllegalArgumentException("max must be > 0");
+    synchronized (this) {
+      adjust();
+      while (q.isEmpty()) {
+        ensureOpen();
+        this.wait();
+      }
+      int n = 0;
+      while (n < max && !q.isEmpty()) {
+        sink.add(q.removeFirst());
+        n++;
+      }
+      this.notifyAll();
+      return n;
+    }
+  }
+
+  @Override
+  public synchronized int size() {
+    return q.size();
+  }
+
+  /** Capacidad actual. */
+  @Override
+  public synchronized int capacity() {
+    return capacity;
+  }
+
+  /** Capacidad actual y límites, capacidad media en el tiempo, cambios y tiempo bloqueado de los productores. */
+  public synchronized String summary() {
+    long now = System.nanoTime();
+    double avg = now == created ? capacity : (capacityNanos + (double) capacity * (now - lastChange)) / (now - created);
+    return String.format("capacity=%d (min=%d max=%d) avgCapacity=%.0f peakCapacity=%d grows=%d shrinks=%d producerBlocked=%dms",
+        capacity, min, max, avg, peakCapacity, grows, shrinks, totalBlockedNanos / 1_000_000);
+  }
+
+  @Override
+  public synchronized boolean shutdown() {
+    closed = true;
+    this.notifyAll(); // despierta a todos: productores y consumidores
+    return true;
+  }
+
+  private void ensureOpen() {
+    if (closed)
+      throw new QueueClosedException();
+  }
+
+  private void add(T item) {
+    q.addLast(item);
+    peakSize = Math.max(peakSize, q.size());
+    this.notifyAll(); // despierta consumidores
+  }
+
+  private T remove() {
+    T v = q.removeFirst();
+    this.notifyAll(); // despierta productores
+    return v;
+  }
+
+  private void blocked(long nanos) {
+    blockedNanos += nanos;
+    totalBlockedNanos += nanos;
+  }
+
+  /** Cierra la ventana si ya pasó {@code windowMs} y aplica la política. */
+  private void adjust() {
+    long now = System.nanoTime();
+    long elapsed = now - windowStart;
+    if (elapsed < windowNanos)
+      return;
+    boolean pressure = blockedNanos * 100 > elapsed * GROW_BLOCKED_PERCENT
+        || (waitingProducers > 0 && q.size() >= capacity);
+    if (pressure && capacity < max) {
+      resize(Math.min(max, capacity * 2), now);
+      grows++;
+      quietWindows = 0;
+      this.notifyAll(); // hay espacio nuevo para los productores que esperan
+    } else if (!pressure && peakSize <= capacity / 4 && capacity > min) {
+      if (++quietWindows >= SHRINK_WINDOWS) {
+        resize(Math.max(min, Math.max(capacity / 2, q.size())), now);
+        q = new ArrayDeque<>(q); // arreglo del tamaño justo: el viejo queda para el GC
+        shrinks++;
+        quietWindows = 0;
+      }
+    } else {
+      quietWindows = 0;
+    }
+    windowStart = now;
+    blockedNanos = 0;
+    peakSize = q.size();
+  }
+
+  private void resize(int newCapacity, long now) {
+    capacityNanos += (double) capacity * (now - lastChange);
+    lastChange = now;
+    capacity = newCapacity;
+    peakCapacity = Math.max(peakCapacity, capacity);
+  }
+}
@@ -0,0 +1,43 @@
+package edu.eci.arsw.pc;
+
+/**
+ * Buffer fijo contra elástico ({@code -Delastic.compare=true}): con la misma
+ * carga (normalmente a ráfagas, {@code -Dburst=onMs:offMs}) corre
+ * {@code monitor} con capacidad mínima, {@code monitor} con la máxima
+ * ({@code -Dcapacity}) y {@code elastic} entre ambas, e imprime throughput,
+ * ocupación, residencia p99 y memoria asignada de cada uno.
+ */
+public final class ElasticComparison {
+  private ElasticComparison() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    RunConfig base = RunConfig.fromSystemProperties();
+    int max = base.capacity();
+    int min = Math.min(max, Integer.getInteger("elastic.min", Math.max(1, max / 16)));
+    System.setProperty("elastic.min", Integer.toString(min)); // el mismo mínimo para WorkQueues
+
+    System.out.printf("ElasticComparison producers=%d consumers=%d min=%d max=%d prodDelay=%dms consDelay=%dms burst=%s duration=%ds%n",
+        base.producers(), base.consumers(), min, max, base.prodDelayMs(), base.consDelayMs(),
+        base.burst() == null ? "none" : base.burst() + "ms", base.durationMs() / 1000);
+    System.out.printf("%-16s %12s %10s %8s %14s %12s%n",
+        "buffer", "throughput", "avgOcc", "maxOcc", "residence.p99", "allocated");
+    String elastic = null;
+    for (RunConfig cfg : new RunConfig[] {
+        base.withQueue("monitor", min), base.withQueue("monitor", max), base.withQueue("elastic", max) }) {
+      RunResult r = PCRunner.run(cfg);
+      String label = cfg.mode().equals("elastic") ? "elastic " + min + ".." + max : "fixed " + cfg.capacity();
+      System.out.printf("%-16s %10.0f/s %10.1f %8d %12.2fms %12s%n",
+          label, r.throughput(), r.avgOccupancy(), r.maxOccupancy(),
+          r.residence().percentile(99) / 1e6, kb(r.cost().allocatedBytes()));
+      if (r.elastic() != null)
+        elastic = r.elastic();
+    }
+    System.out.println("elastic " + elastic);
+  }
+
+  /** -1 si la JVM no mide asignación por hilo. */
+  private static String kb(long bytes) {
+    return bytes < 0 ? "n/a" : bytes / 1024 + "KB";
+  }
+}
@@ -0,0 +1,64 @@
+package edu.eci.arsw.pc;
+
+import java.nio.file.Path;
+
+/**
+ * Productor y consumidor en JVM separadas sobre un {@link SharedMemoryRing}
+ * ({@code -Drole=producer|consumer}, mismo {@code -Dipc.file}). Cada proceso
+ * corre su mitad con {@link PCRunner} durante {@code durationSec}.
+ *
+ * <p>Al terminar, el consumidor repite la corrida dentro de un solo proceso
+ * con {@code BoundedBuffer} (1 productor, 1 consumidor, misma capacidad y
+ * retardos) e imprime ambos throughputs ({@code -Dipc.baseline=false} lo
+ * omite).
+ */
+public final class IpcRoles {
+  private IpcRoles() {
+  }
+
+  public static void run(String role) throws Exception {
+    RunConfig base = RunConfig.fromSystemProperties();
+    boolean producer = switch (role.toLowerCase()) {
+      case "producer" -> true;
+      case "consumer" -> false;
+      default -> throw new IllegalArgumentException("unknown role: " + role + " (expected producer|consumer)");
+    };
+    Path file = Path.of(System.getProperty("ipc.file",
+        Path.of(System.getProperty("java.io.tmpdir"), "pc-ipc.ring").toString()));
+    RunConfig cfg = new RunConfig("ipc", producer ? 1 : 0, producer ? 0 : 1, base.capacity(),
+        base.prodDelayMs(), base.consDelayMs(), base.durationMs(), base.batch(), base.lingerMs(),
+        base.waitStrategy(), base.virtualThreads(), 0, false, base.burst());
+
+    System.out.printf("PCApp role=%s file=%s capacity=%d wait=%s prodDelay=%dms consDelay=%dms duration=%ds%n",
+        role, file, cfg.capacity(), cfg.waitStrategy(), cfg.prodDelayMs(), cfg.consDelayMs(),
+        cfg.durationMs() / 1000);
+
+    RunResult r;
+    try (SharedMemoryRing ring = new SharedMemoryRing(file, cfg.capacity(), WaitStrategy.of(cfg.waitStrategy()))) {
+      r = PCRunner.run(cfg, ring);
+    }
+
+    if (producer) {
+      System.out.printf("role=producer Produced=%d QueueSize=%d%n", r.produced(), r.queueSizeAtEnd());
+      System.out.printf("role=producer %s%n", r.cost());
+      System.out.printf("role=producer Throughput=%.0f/s%n", r.producedPerSecond());
+      return;
+    }
+    System.out.printf("role=consumer Consumed=%d QueueSize=%d%n", r.consumed(), r.queueSizeAtEnd());
+    System.out.printf("role=consumer %s%n", r.cost());
+    System.out.printf("role=consumer Throughput=%.0f/s Occupancy(avg=%.1f max=%d)%n",
+        r.throughput(), r.avgOccupancy(), r.maxOccupancy());
+    System.out.printf("role=consumer Latency residence %s%n", r.residence().summary());
+    System.out.printf("role=consumer Latency end-to-end %s%n", r.endToEnd().summary());
+
+    if (!Boolean.parseBoolean(System.getProperty("ipc.baseline", "true")))
+      return;
+    RunConfig local = new RunConfig("monitor", 1, 1, cfg.capacity(), cfg.prodDelayMs(), cfg.consDelayMs(),
+        cfg.durationMs(), cfg.batch(), cfg.lingerMs(), cfg.waitStrategy(), cfg.virtualThreads(), 0, false, cfg.burst());
+    RunResult b = PCRunner.run(local);
+    System.out.printf("in-process monitor Throughput=%.0f/s Latency residence %s%n",
+        b.throughput(), b.residence().summary());
+    System.out.printf("cross-process/in-process throughput=%.2fx%n",
+        b.throughput() == 0 ? 0 : r.throughput() / b.throughput());
+  }
+}
@@ -0,0 +1,86 @@
+package edu.eci.arsw.pc;
+
+/**
+ * Histograma de latencias con cubetas logarítmicas (al estilo HdrHistogram,
+ * versión mínima): valores &lt; 64 ns exactos y, de ahí en adelante, 32
+ * sub-cubetas lineales por potencia de dos, con error relativo &lt;= ~3%.
+ *
+ * <p>Registrar es un par de operaciones de bits y un incremento en un
+ * {@code long[]} fijo, sin asignar memoria. No es thread-safe: cada hilo
+ * registra en el suyo y al final se combinan con {@link #merge}.
+ */
+public final class LatencyHistogram {
+  private static final int SUB_BITS = 5;
+  private static final int SUB = 1 << SUB_BITS; // 32 sub-cubetas por potencia de dos
+  private static final int LINEAR = 2 * SUB; // 0..63 ns exactos
+  private static final int MAX_SHIFT = 63 - SUB_BITS;
+
+  private final long[] counts = new long[LINEAR + MAX_SHIFT * SUB];
+  private long total;
+  private long max;
+
+  /** Registra un valor en nanosegundos; los negativos cuentan como 0. */
+  public void record(long nanos) {
+    long v = Math.max(0, nanos);
+    counts[indexOf(v)]++;
+    total++;
+    if (v > max)
+      max = v;
+  }
+
+  /** Suma los conteos de {@code other} a este histograma. */
+  public void merge(LatencyHistogram other) {
+    for (int i = 0; i < counts.length; i++)
+      counts[i] += other.counts[i];
+    total += other.total;
+    max = Math.max(max, other.max);
+  }
+
+  public long count() {
+    return total;
+  }
+
+  public long max() {
+    return max;
+  }
+
+  /**
+   * Valor (cota superior de su cubeta) por debajo del cual cae el
+   * {@code percentile}% de las muestras; 0 si no hay muestras.
+   */
+  public long percentile(double percentile) {
+    if (total == 0)
+      return 0;
+    long rank = (long) Math.ceil(percentile / 100.0 * total);
+    rank = Math.max(1, Math.min(rank, total));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank)
+        return Math.min(upperBoundOf(i), max);
+    }
+    return max;
+  }
+
+  /** Resumen p50/p99/p99.9/max en microsegundos. */
+  public String summary() {
+    return String.format("n=%d p50=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus",
+        total, percentile(50) / 1e3, percentile(99) / 1e3, percentile(99.9) / 1e3, max / 1e3);
+  }
+
+  private static int indexOf(long v) {
+    if (v < LINEAR)
+      return (int) v;
+    int shift = 63 - Long.numberOfLeadingZeros(v) - SUB_BITS; // >= 1
+    int top = (int) (v >>> shift); // en [SUB, 2*SUB)
+    return LINEAR + (shift - 1) * SUB + (top - SUB);
+  }
+
+  private static long upperBoundOf(int index) {
+    if (index < LINEAR)
+      return index;
+    int shift = (index - LINEAR) / SUB + 1;
+    long top = (index - LINEAR) % SUB + SUB;
+    return ((top + 1) << shift) - 1;
+  }
+}
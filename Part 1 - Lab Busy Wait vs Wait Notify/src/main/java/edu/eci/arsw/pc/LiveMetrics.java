@@ -0,0 +1,172 @@
+package edu.eci.arsw.pc;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Métricas de una corrida mientras corre: totales, tasas del último
+ * segundo, ocupación de la cola y cuántos productores/consumidores están
+ * bloqueados. Los contadores son {@link LongAdder} (una celda por hilo en
+ * contención, se suman al leer), así que ni leerlos ni escribirlos comparte
+ * una línea de caché entre hilos; los bloqueados salen del estado de cada
+ * hilo, sin instrumentar {@code put}/{@code take}.
+ *
+ * <p>{@link PCRunner} llama a {@link #tick} una vez por segundo. Con
+ * {@code -Dlive=true} imprime además {@link #line()}.
+ */
+public final class LiveMetrics implements LiveMetricsMXBean {
+  public static final String OBJECT_NAME = "edu.eci.arsw.pc:type=LiveMetrics";
+
+  private final RunConfig cfg;
+  private final WorkQueue<?> queue;
+  private final LongAdder produced;
+  private final LongAdder consumed;
+  private final List<Producer> producers;
+  private final List<Consumer> consumers;
+  private final long start = System.nanoTime();
+  private ObjectName registered;
+
+  // último tick; los escribe sólo el hilo de PCRunner
+  private long lastTick = start;
+  private long lastProduced;
+  private long lastConsumed;
+  private volatile double producedPerSecond;
+  private volatile double consumedPerSecond;
+
+  public LiveMetrics(RunConfig cfg, WorkQueue<?> queue, LongAdder produced, LongAdder consumed,
+      List<Producer> producers, List<Consumer> consumers) {
+    this.cfg = cfg;
+    this.queue = queue;
+    this.produced = produced;
+    this.consumed = consumed;
+    this.producers = producers;
+    this.consumers = consumers;
+  }
+
+  /** Registra el MBean; si ya hay otro (otra corrida en el proceso) no hace nada. */
+  public void register() {
+    try {
+      MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      ObjectName name = new ObjectName(OBJECT_NAME);
+      if (!server.isRegistered(name)) {
+        server.registerMBean(this, name);
+        registered = name;
+      }
+    } catch (JMException e) {
+      System.err.println("LiveMetrics: JMX registration failed: " + e);
+    }
+  }
+
+  public void unregister() {
+    if (registered == null)
+      return;
+    try {
+      ManagementFactory.getPlatformMBeanServer().unregisterMBean(registered);
+    } catch (JMException e) {
+      System.err.println("LiveMetrics: JMX unregistration failed: " + e);
+    }
+    registered = null;
+  }
+
+  /** Cierra el intervalo: recalcula las tasas desde el tick anterior. */
+  public void tick() {
+    long now = System.nanoTime();
+    long p = produced.sum();
+    long c = consumed.sum();
+    double secs = (now - lastTick) / 1e9;
+    if (secs > 0) {
+      producedPerSecond = (p - lastProduced) / secs;
+      consumedPerSecond = (c - lastConsumed) / secs;
+    }
+    lastTick = now;
+    lastProduced = p;
+    lastConsumed = c;
+  }
+
+  /** Una línea con el estado actual, para imprimir tras cada {@link #tick}. */
+  public String line() {
+    return String.format("live t=%ds produced=%.0f/s consumed=%.0f/s total=%d/%d queue=%d/%d blocked(producers=%s consumers=%s)",
+        Math.round(getElapsedMs() / 1000.0), producedPerSecond, consumedPerSecond, getProduced(), getConsumed(),
+        getQueueSize(), getCapacity(), blocked(getBlockedProducers(), cfg.producers()),
+        blocked(getBlockedConsumers(), cfg.consumers()));
+  }
+
+  @Override
+  public String getMode() {
+    return cfg.mode();
+  }
+
+  @Override
+  public long getElapsedMs() {
+    return (System.nanoTime() - start) / 1_000_000L;
+  }
+
+  @Override
+  public long getProduced() {
+    return produced.sum();
+  }
+
+  @Override
+  public long getConsumed() {
+    return consumed.sum();
+  }
+
+  @Override
+  public double getProducedPerSecond() {
+    return producedPerSecond;
+  }
+
+  @Override
+  public double getConsumedPerSecond() {
+    return consumedPerSecond;
+  }
+
+  @Override
+  public int getQueueSize() {
+    return queue.size();
+  }
+
+  @Override
+  public int getCapacity() {
+    return queue.capacity();
+  }
+
+  @Override
+  public int getBlockedProducers() {
+    if (cfg.flow())
+      return -1;
+    int n = 0;
+    for (Producer p : producers)
+      n += isBlocked(p.state(), p.pacing()) ? 1 : 0;
+    return n;
+  }
+
+  @Override
+  public int getBlockedConsumers() {
+    if (cfg.flow())
+      return -1;
+    int n = 0;
+    for (Consumer c : consumers)
+      n += isBlocked(c.state(), c.pacing()) ? 1 : 0;
+    return n;
+  }
+
+  /**
+   * WAITING, BLOCKED o TIMED_WAITING: las colas {@code sharded} y las
+   * estrategias con plazo esperan con {@code awaitNanos}/{@code parkNanos}.
+   * La espera simulada no cuenta; se descarta por la marca del papel y no por
+   * el estado, porque un hilo virtual dormido con plazo figura WAITING.
+   */
+  private static boolean isBlocked(Thread.State s, boolean pacing) {
+    return !pacing && (s == Thread.State.WAITING || s == Thread.State.TIMED_WAITING
+        || s == Thread.State.BLOCKED);
+  }
+
+  private static String blocked(int n, int of) {
+    return n < 0 ? "n/a" : n + "/" + of;
+  }
+}
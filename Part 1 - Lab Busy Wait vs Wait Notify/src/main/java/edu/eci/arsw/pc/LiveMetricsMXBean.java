@@ -0,0 +1,36 @@
+package edu.eci.arsw.pc;
+
+/**
+ * Atributos JMX de la corrida en curso, registrados como
+ * {@value LiveMetrics#OBJECT_NAME} (verlos con jconsole o jcmd). Las tasas
+ * son las del último segundo.
+ */
+public interface LiveMetricsMXBean {
+  String getMode();
+
+  long getElapsedMs();
+
+  long getProduced();
+
+  long getConsumed();
+
+  double getProducedPerSecond();
+
+  double getConsumedPerSecond();
+
+  int getQueueSize();
+
+  int getCapacity();
+
+  /**
+   * Productores esperando espacio en WAITING, TIMED_WAITING o BLOCKED (sin
+   * contar la espera simulada); -1 en modo {@code flow}.
+   */
+  int getBlockedProducers();
+
+  /**
+   * Consumidores esperando elementos en WAITING, TIMED_WAITING o BLOCKED (sin
+   * contar el {@code delayMs}); -1 en modo {@code flow}.
+   */
+  int getBlockedConsumers();
+}
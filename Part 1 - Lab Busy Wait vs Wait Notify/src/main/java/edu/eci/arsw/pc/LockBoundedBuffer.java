@@ -0,0 +1,178 @@
+package edu.eci.arsw.pc;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Mismo protocolo que {@link BoundedBuffer} (una condición, despertar a
+ * todos), pero con {@link ReentrantLock} en lugar de {@code synchronized}.
+ *
+ * <p>En JDK 21 un hilo virtual que espera dentro de {@code synchronized}
+ * queda clavado (pinned) a su carrier; esperar en una {@link Condition} lo
+ * desmonta y libera el carrier. Como la lógica de señales es idéntica, la
+ * comparación {@code monitor} vs {@code lock} aísla el efecto del pinning.
+ * También soporta {@link #shutdown()}.
+ */
+public final class LockBoundedBuffer<T> implements WorkQueue<T> {
+  private final Deque<T> q = new ArrayDeque<>();
+  private final int capacity;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition changed = lock.newCondition();
+  private boolean closed;
+
+  public LockBoundedBuffer(int capacity) {
+    if (capacity <= 0)
+      throw new IllegalArgumentException("capacity must be > 0");
+    this.capacity = capacity;
+  }
+
+  @Override
+  public void put(T item) throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (q.size() == capacity && !closed) {
+        changed.await(); // espera hasta que haya espacio, sin clavar el carrier
+      }
+      ensureOpen();
+      q.addLast(item);
+      changed.signalAll(); // despierta consumidores
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public T take() throws InterruptedException {
+    lock.lockInterruptibly();
+    try {
+      while (q.isEmpty()) {
+        ensureOpen(); // cerrada y vacía: no va a llegar nada más
+        changed.await(); // espera hasta que haya elementos
+      }
+      T v = q.removeFirst();
+      changed.signalAll(); // despierta productores
+      return v;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (q.size() == capacity && !closed) {
+        if (nanos <= 0)
+          return false;
+        nanos = changed.awaitNanos(nanos);
+      }
+      ensureOpen();
+      q.addLast(item);
+      changed.signalAll();
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    lock.lockInterruptibly();
+    try {
+      while (q.isEmpty()) {
+        ensureOpen();
+        if (nanos <= 0)
+          return null;
+        nanos = changed.awaitNanos(nanos);
+      }
+      T v = q.removeFirst();
+      changed.signalAll();
+      return v;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Como {@link BoundedBuffer#putAll}: un despertar por tramo. */
+  @Override
+  public void putAll(Collection<? extends T> items) throws InterruptedException {
+    Iterator<? extends T> it = items.iterator();
+    lock.lockInterruptibly();
+    try {
+      while (it.hasNext()) {
+        while (q.size() == capacity && !closed) {
+          changed.await();
+        }
+        ensureOpen();
+        while (q.size() < capacity && it.hasNext()) {
+          q.addLast(it.next());
+        }
+        changed.signalAll();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** Como {@link BoundedBuffer#drainTo}: un despertar por lote. */
+  @Override
+  public int drainTo(Collection<? super T> sink, int max) throws InterruptedException {
+    if (max <= 0)
+      throw new IllegalArgumentException("max must be > 0");
+    lock.lockInterruptibly();
+    try {
+      while (q.isEmpty()) {
+        ensureOpen();
+        changed.await();
+      }
+      int n = 0;
+      while (n < max && !q.isEmpty()) {
+        sink.add(q.removeFirst());
+        n++;
+      }
+      changed.signalAll();
+      return n;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int size() {
+    lock.lock();
+    try {
+      return q.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public int capacity() {
+    return capacity;
+  }
+
+  @Override
+  public boolean shutdown() {
+    lock.lock();
+    try {
+      closed = true;
+      changed.signalAll(); // despierta a todos: productores y consumidores
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void ensureOpen() {
+    if (closed)
+      throw new QueueClosedException();
+  }
+}
@@ -0,0 +1,142 @@
+package edu.eci.arsw.pc;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Misma semántica que {@link BoundedBuffer} (synchronized + wait/notifyAll)
+ * pero especializada en {@code long}: los valores viven en un {@code long[]}
+ * circular, sin {@code Long} de por medio, así que encolar y desencolar no
+ * asigna memoria. Soporta {@link #shutdown()} como {@link BoundedBuffer}.
+ */
+public final class LongBoundedBuffer implements LongWorkQueue {
+  private final long[] items;
+  private int head; // siguiente posición a leer
+  private int count;
+  private boolean closed;
+
+  public LongBoundedBuffer(int capacity) {
+    if (capacity <= 0)
+      throw new IllegalArgumentException("capacity must be > 0");
+    this.items = new long[capacity];
+  }
+
+  @Override
+  public void putLong(long item) throws InterruptedException {
+    synchronized (this) {
+      while (count == items.length && !closed) {
+        this.wait(); // espera hasta que haya espacio
+      }
+      ensureOpen();
+      int tail = head + count;
+      if (tail >= items.length)
+        tail -= items.length;
+      items[tail] = item;
+      count++;
+      this.notifyAll(); // despierta consumidores
+    }
+  }
+
+  @Override
+  public long takeLong() throws InterruptedException {
+    synchronized (this) {
+      while (count == 0) {
+        ensureOpen(); // cerrada y vacía: no va a llegar nada más
+        this.wait(); // espera hasta que haya elementos
+      }
+      long v = items[head];
+      if (++head == items.length)
+        head = 0;
+      count--;
+      this.notifyAll(); // despierta productores
+      return v;
+    }
+  }
+
+  @Override
+  public boolean offer(Long item, long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    synchronized (this) {
+      long deadline = System.nanoTime() + nanos;
+      while (count == items.length && !closed) {
+        if (nanos <= 0)
+          return false;
+        TimeUnit.NANOSECONDS.timedWait(this, nanos);
+        nanos = deadline - System.nanoTime();
+      }
+      ensureOpen();
+      int tail = head + count;
+      if (tail >= items.length)
+        tail -= items.length;
+      items[tail] = item;
+      count++;
+      this.notifyAll();
+      return true;
+    }
+  }
+
+  @Override
+  public Long poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    synchronized (this) {
+      long deadline = System.nanoTime() + nanos;
+      while (count == 0) {
+        ensureOpen();
+        if (nanos <= 0)
+          return null;
+        TimeUnit.NANOSECONDS.timedWait(this, nanos);
+        nanos = deadline - System.nanoTime();
+      }
+      long v = items[head];
+      if (++head == items.length)
+        head = 0;
+      count--;
+      this.notifyAll();
+      return v;
+    }
+  }
+
+  /** Como {@link BoundedBuffer#drainTo}: un despertar por lote. */
+  @Override
+  public int drainTo(Collection<? super Long> sink, int max) throws InterruptedException {
+    if (max <= 0)
+      throw new IllegalArgumentException("max must be > 0");
+    synchronized (this) {
+      while (count == 0) {
+        ensureOpen();
+        this.wait();
+      }
+      int n = Math.min(max, count);
+      for (int i = 0; i < n; i++) {
+        sink.add(items[head]);
+        if (++head == items.length)
+          head = 0;
+      }
+      count -= n;
+      this.notifyAll();
+      return n;
+    }
+  }
+
+  @Override
+  public synchronized int size() {
+    return count;
+  }
+
+  @Override
+  public int capacity() {
+    return items.length;
+  }
+
+  @Override
+  public synchronized boolean shutdown() {
+    closed = true;
+    this.notifyAll(); // despierta a todos: productores y consumidores
+    return true;
+  }
+
+  private void ensureOpen() {
+    if (closed)
+      throw new QueueClosedException();
+  }
+}
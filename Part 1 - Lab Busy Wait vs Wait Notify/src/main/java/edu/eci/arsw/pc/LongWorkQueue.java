@@ -0,0 +1,24 @@
+package edu.eci.arsw.pc;
+
+/**
+ * {@link WorkQueue} especializada en {@code long}. {@link Producer} y
+ * {@link Consumer} usan {@link #putLong}/{@link #takeLong} cuando la cola la
+ * implementa; los métodos de {@code WorkQueue<Long>} quedan como puente con
+ * boxing.
+ */
+public interface LongWorkQueue extends WorkQueue<Long> {
+
+  void putLong(long item) throws InterruptedException;
+
+  long takeLong() throws InterruptedException;
+
+  @Override
+  default void put(Long item) throws InterruptedException {
+    putLong(item);
+  }
+
+  @Override
+  default Long take() throws InterruptedException {
+    return takeLong();
+  }
+}
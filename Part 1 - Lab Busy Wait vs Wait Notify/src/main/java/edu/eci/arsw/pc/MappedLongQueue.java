@@ -0,0 +1,268 @@
+package edu.eci.arsw.pc;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cola persistente de {@code long} sobre archivos mapeados en memoria
+ * ({@code FileChannel.map}), con la misma semántica que {@link BoundedBuffer}
+ * (synchronized + wait/notifyAll, a lo sumo {@code capacity} pendientes).
+ *
+ * <p>Los elementos se agregan al final de segmentos de tamaño fijo
+ * ({@code segment-<n>.dat}, {@code segmentRecords} valores de 8 bytes cada
+ * uno). {@code meta.dat} guarda la posición de escritura ({@code tail}), el
+ * cursor del consumidor ({@code head}) y el tamaño de segmento: al reabrir
+ * el directorio se continúa donde se quedó. Los segmentos ya consumidos se
+ * borran; si el sistema operativo no lo permite mientras sigan mapeados
+ * (Windows), se borran al reabrir.
+ *
+ * <p>Escribir en el mapeo ya sobrevive a la muerte de la JVM (los datos
+ * quedan en la caché de páginas del SO). Para sobrevivir a una caída del SO
+ * hay que forzarlos a disco: con {@code fsyncEvery=N} se hace
+ * {@code force()} cada N operaciones ({@code 0} deja la escritura al SO,
+ * {@code 1} fuerza en cada operación).
+ *
+ * <p>{@link #shutdown()} tiene la semántica de {@link WorkQueue}; después de
+ * {@link #close()} toda operación lanza {@link QueueClosedException}.
+ */
+public final class MappedLongQueue implements LongWorkQueue, Closeable {
+  private static final String META = "meta.dat";
+  private static final int TAIL = 0;
+  private static final int HEAD = 8;
+  private static final int SEGMENT_RECORDS = 16;
+
+  private final Path dir;
+  private final int capacity;
+  private final int segmentRecords;
+  private final int fsyncEvery;
+  private final MappedByteBuffer meta;
+  private final long recovered;
+
+  private long tail; // siguiente posición a escribir
+  private long head; // siguiente posición a leer
+  private long writeSegment = -1;
+  private MappedByteBuffer writeBuffer;
+  private long readSegment = -1;
+  private MappedByteBuffer readBuffer;
+  private int unsynced; // operaciones desde el último force()
+  private boolean closed; // shutdown(): no acepta más
+  private boolean released; // close(): los mapeos ya no se usan
+
+  /**
+   * Abre (o crea) la cola en {@code dir}, recuperando {@code tail} y
+   * {@code head} si ya existía.
+   *
+   * @param capacity       máximo de elementos pendientes antes de bloquear a los productores
+   * @param segmentRecords valores por segmento
+   * @param fsyncEvery     operaciones entre {@code force()}; 0 = nunca
+   */
+  public MappedLongQueue(Path dir, int capacity, int segmentRecords, int fsyncEvery) throws IOException {
+    if (capacity <= 0)
+      throw new IllegalArgumentException("capacity must be > 0");
+    if (segmentRecords <= 0 || segmentRecords > Integer.MAX_VALUE / Long.BYTES)
+      throw new IllegalArgumentException("segmentRecords must be in [1, " + Integer.MAX_VALUE / Long.BYTES + "]");
+    if (fsyncEvery < 0)
+      throw new IllegalArgumentException("fsyncEvery must be >= 0");
+    this.dir = Files.createDirectories(dir);
+    this.capacity = capacity;
+    this.segmentRecords = segmentRecords;
+    this.fsyncEvery = fsyncEvery;
+    this.meta = map(dir.resolve(META), 24);
+    long stored = meta.getLong(SEGMENT_RECORDS);
+    if (stored == 0)
+      meta.putLong(SEGMENT_RECORDS, segmentRecords);
+    else if (stored != segmentRecords)
+      throw new IOException(dir + " was created with segmentRecords=" + stored + ", not " + segmentRecords);
+    this.tail = meta.getLong(TAIL);
+    this.head = meta.getLong(HEAD);
+    if (head < 0 || head > tail)
+      throw new IOException("corrupt cursor in " + dir.resolve(META) + ": head=" + head + " tail=" + tail);
+    this.recovered = tail - head;
+    deleteSegmentsBefore(head / segmentRecords);
+  }
+
+  /**
+   * Elementos que quedaron pendientes de una ejecución anterior (al abrir).
+   * Son los primeros en salir y sus marcas de tiempo son de otra JVM.
+   */
+  public long recovered() {
+    return recovered;
+  }
+
+  @Override
+  public void putLong(long item) throws InterruptedException {
+    synchronized (this) {
+      while (tail - head >= capacity && !closed) {
+        this.wait(); // espera hasta que haya espacio
+      }
+      append(item);
+      this.notifyAll(); // despierta consumidores
+    }
+  }
+
+  @Override
+  public long takeLong() throws InterruptedException {
+    synchronized (this) {
+      while (tail == head) {
+        ensureOpen();
+        this.wait(); // espera hasta que haya elementos
+      }
+      long v = remove();
+      this.notifyAll(); // despierta productores
+      return v;
+    }
+  }
+
+  @Override
+  public boolean offer(Long item, long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    synchronized (this) {
+      long deadline = System.nanoTime() + nanos;
+      while (tail - head >= capacity && !closed) {
+        if (nanos <= 0)
+          return false;
+        TimeUnit.NANOSECONDS.timedWait(this, nanos);
+        nanos = deadline - System.nanoTime();
+      }
+      append(item);
+      this.notifyAll();
+      return true;
+    }
+  }
+
+  @Override
+  public Long poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    synchronized (this) {
+      long deadline = System.nanoTime() + nanos;
+      while (tail == head) {
+        ensureOpen();
+        if (nanos <= 0)
+          return null;
+        TimeUnit.NANOSECONDS.timedWait(this, nanos);
+        nanos = deadline - System.nanoTime();
+      }
+      long v = remove();
+      this.notifyAll();
+      return v;
+    }
+  }
+
+  @Override
+  public synchronized int size() {
+    return (int) (tail - head);
+  }
+
+  @Override
+  public int capacity() {
+    return capacity;
+  }
+
+  @Override
+  public synchronized boolean shutdown() {
+    closed = true;
+    this.notifyAll(); // despierta a todos: productores y consumidores
+    return true;
+  }
+
+  /** Fuerza a disco lo pendiente y deja de aceptar operaciones; lo pendiente queda para la próxima apertura. */
+  @Override
+  public synchronized void close() {
+    if (released)
+      return;
+    sync();
+    closed = true;
+    released = true;
+    writeBuffer = null;
+    readBuffer = null;
+    this.notifyAll();
+  }
+
+  private void append(long item) {
+    ensureOpen();
+    long segment = tail / segmentRecords;
+    if (segment != writeSegment) {
+      if (writeBuffer != null && unsynced > 0)
+        writeBuffer.force(); // lo escrito en el segmento anterior no se vuelve a forzar
+      writeBuffer = segment == readSegment ? readBuffer : mapSegment(segment);
+      writeSegment = segment;
+    }
+    writeBuffer.putLong((int) (tail % segmentRecords) * Long.BYTES, item);
+    meta.putLong(TAIL, ++tail); // el dato antes que el cursor
+    maybeSync();
+  }
+
+  private long remove() {
+    if (released)
+      throw new QueueClosedException();
+    long segment = head / segmentRecords;
+    if (segment != readSegment) {
+      readBuffer = segment == writeSegment ? writeBuffer : mapSegment(segment);
+      long previous = readSegment;
+      readSegment = segment;
+      if (previous >= 0)
+        deleteSegmentsBefore(segment);
+    }
+    long v = readBuffer.getLong((int) (head % segmentRecords) * Long.BYTES);
+    meta.putLong(HEAD, ++head);
+    maybeSync();
+    return v;
+  }
+
+  private void maybeSync() {
+    if (fsyncEvery > 0 && ++unsynced >= fsyncEvery)
+      sync();
+  }
+
+  private void sync() {
+    if (writeBuffer != null)
+      writeBuffer.force();
+    meta.force();
+    unsynced = 0;
+  }
+
+  private void ensureOpen() {
+    if (closed)
+      throw new QueueClosedException();
+  }
+
+  private MappedByteBuffer mapSegment(long segment) {
+    try {
+      return map(dir.resolve(String.format("segment-%019d.dat", segment)), (long) segmentRecords * Long.BYTES);
+    } catch (IOException e) {
+      throw new IllegalStateException("cannot map segment " + segment + " in " + dir, e);
+    }
+  }
+
+  private static MappedByteBuffer map(Path file, long bytes) throws IOException {
+    try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      return ch.map(FileChannel.MapMode.READ_WRITE, 0, bytes); // el mapeo sigue válido tras cerrar el canal
+    }
+  }
+
+  private void deleteSegmentsBefore(long segment) {
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "segment-*.dat")) {
+      for (Path f : files) {
+        String name = f.getFileName().toString();
+        long n = Long.parseLong(name.substring("segment-".length(), name.length() - ".dat".length()));
+        if (n < segment) {
+          try {
+            Files.deleteIfExists(f);
+          } catch (IOException e) {
+            // sigue mapeado (Windows): se reintenta al reabrir
+          }
+        }
+      }
+    } catch (IOException e) {
+      // limpieza de mejor esfuerzo: los datos vivos no dependen de ella
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package edu.eci.arsw.pc;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Consumidor bajo demanda: el equivalente de {@link Consumer} para
+ * {@link QueuePublisher}. Pide {@code batch} elementos, los procesa
+ * ({@code delayMs} cada uno) y sólo entonces pide otros {@code batch}.
+ * Registra las mismas latencias que {@link Consumer}; los métodos
+ * {@code onNext} de una suscripción nunca corren a la vez, así que los
+ * histogramas no necesitan sincronización.
+ */
+public final class MeteredSubscriber implements Flow.Subscriber<Long> {
+  private final LongAdder counter;
+  private final long delayMs;
+  private final int batch;
+  private final LatencyHistogram residence = new LatencyHistogram();
+  private final LatencyHistogram endToEnd = new LatencyHistogram();
+  private volatile Flow.Subscription subscription;
+  private int processed;
+  private AtomicLong stale; // se fija antes de suscribirse
+
+  public MeteredSubscriber(LongAdder counter, long delayMs, int batch) {
+    if (batch <= 0)
+      throw new IllegalArgumentException("batch must be > 0");
+    this.counter = counter;
+    this.delayMs = delayMs;
+    this.batch = batch;
+  }
+
+  /** Como {@link Consumer#skipStaleStamps}: no mide los elementos recuperados de otra JVM. */
+  public void skipStaleStamps(AtomicLong stale) {
+    this.stale = stale;
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription s) {
+    this.subscription = s;
+    s.request(batch);
+  }
+
+  @Override
+  public void onNext(Long created) {
+    long taken = System.nanoTime();
+    boolean measured = !Consumer.stale(stale);
+    if (measured)
+      residence.record(taken - created);
+    if (delayMs > 0) {
+      try {
+        Thread.sleep(delayMs);
+      } catch (InterruptedException ie) {
+        cancel();
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+    if (measured)
+      endToEnd.record(System.nanoTime() - created);
+    counter.increment();
+    if (++processed == batch) {
+      processed = 0;
+      subscription.request(batch); // demanda por lotes: sólo tras procesar el anterior
+    }
+  }
+
+  /** Deja de pedir y de recibir. */
+  public void cancel() {
+    Flow.Subscription s = subscription;
+    if (s != null)
+      s.cancel();
+  }
+
+  @Override
+  public void onError(Throwable t) {
+    System.err.println("MeteredSubscriber: upstream failed: " + t);
+  }
+
+  @Override
+  public void onComplete() {
+  }
+
+  /** Latencias de residencia en cola; leer sólo cuando la corrida terminó. */
+  public LatencyHistogram residence() {
+    return residence;
+  }
+
+  /** Latencias extremo a extremo; leer sólo cuando la corrida terminó. */
+  public LatencyHistogram endToEnd() {
+    return endToEnd;
+  }
+}
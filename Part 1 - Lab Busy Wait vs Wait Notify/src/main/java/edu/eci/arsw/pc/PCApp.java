@@ -1,60 +1,88 @@
 package edu.eci.arsw.pc;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.atomic.AtomicLong;
-
 public final class PCApp {
   private PCApp() {
   }
 
   public static void main(String[] args) throws Exception {
-    String mode = System.getProperty("mode", "monitor"); // monitor|spin
-    int producers = Integer.getInteger("producers", 1);
-    int consumers = Integer.getInteger("consumers", 1);
-    int capacity = Integer.getInteger("capacity", 16);
-    long prodDelay = Long.getLong("prodDelayMs", 10L);
-    long consDelay = Long.getLong("consDelayMs", 10L);
-    int duration = Integer.getInteger("durationSec", 20);
-
-    System.out.printf(
-        "PCApp mode=%s producers=%d consumers=%d capacity=%d prodDelay=%dms consDelay=%dms duration=%ds%n",
-        mode, producers, consumers, capacity, prodDelay, consDelay, duration);
-
-    Object queue;
-    if ("spin".equalsIgnoreCase(mode))
-      queue = new BusySpinQueue<Long>(capacity);
-    else
-      queue = new BoundedBuffer<Long>(capacity);
-
-    var exec = Executors.newVirtualThreadPerTaskExecutor();
-    List<Producer> prodList = new ArrayList<>();
-    List<Consumer> consList = new ArrayList<>();
-    AtomicLong produced = new AtomicLong();
-    AtomicLong consumed = new AtomicLong();
-
-    for (int i = 0; i < producers; i++) {
-      var p = new Producer(queue, produced, prodDelay);
-      prodList.add(p);
-      exec.submit(p);
+    if (Boolean.getBoolean("sweep")) { // matriz de configuraciones, ver Sweep
+      Sweep.main(args);
+      return;
     }
-    for (int i = 0; i < consumers; i++) {
-      var c = new Consumer(queue, consumed, consDelay);
-      consList.add(c);
-      exec.submit(c);
+    if (Boolean.getBoolean("scale")) { // throughput según número de consumidores, ver Scaling
+      Scaling.main(args);
+      return;
     }
+    if (Boolean.getBoolean("soak")) { // corrida larga con detección de deriva, ver Soak
+      Soak.main(args);
+      return;
+    }
+    if (Boolean.getBoolean("elastic.compare")) { // buffer fijo contra elástico, ver ElasticComparison
+      ElasticComparison.main(args);
+      return;
+    }
+    if (System.getProperty("pipeline") != null) { // varias etapas encadenadas, ver PipelineApp
+      PipelineApp.main(args);
+      return;
+    }
+    String role = System.getProperty("role"); // productor y consumidor en procesos distintos, ver IpcRoles
+    if (role != null) {
+      IpcRoles.run(role);
+      return;
+    }
+    RunConfig cfg = RunConfig.fromSystemProperties(); // ver WorkQueues.NAMES para -Dmode
+    String mode = cfg.mode();
+    boolean pinning = Boolean.getBoolean("pinning"); // eventos JFR jdk.VirtualThreadPinned
 
-    Thread.sleep(duration * 1000L);
+    System.out.printf(
+        "PCApp mode=%s producers=%d consumers=%d capacity=%d prodDelay=%dms consDelay=%dms duration=%ds%n",
+        mode, cfg.producers(), cfg.consumers(), cfg.capacity(), cfg.prodDelayMs(), cfg.consDelayMs(),
+        cfg.durationMs() / 1000);
+    if ("spin".equalsIgnoreCase(mode) || "ring".equalsIgnoreCase(mode))
+      System.out.printf("wait=%s%n", cfg.waitStrategy());
+    if ("mmap".equalsIgnoreCase(mode))
+      System.out.printf("mmap.dir=%s segmentRecords=%d fsyncEvery=%d%n",
+          System.getProperty("mmap.dir", "<tmpdir>/pc-mmap-queue"),
+          Integer.getInteger("mmap.segmentRecords", 1 << 16), Integer.getInteger("mmap.fsyncEvery", 0));
+    if (cfg.burst() != null)
+      System.out.printf("burst=%sms%n", cfg.burst());
+    if ("conflate".equalsIgnoreCase(mode))
+      System.out.printf("conflate.keys=%d%n", Integer.getInteger("conflate.keys", 16));
+    if (cfg.flow())
+      System.out.printf("flow demand=%d%n", Math.max(1, cfg.batch()));
+    if (cfg.reorderWindow() > 0)
+      System.out.printf("ordered reorderWindow=%d%n", cfg.reorderWindow());
+    if (cfg.batch() > 1 && !cfg.flow())
+      System.out.printf("batch=%d lingerMs=%d%n", cfg.batch(), cfg.lingerMs());
+    if (!cfg.virtualThreads())
+      System.out.println("threads=platform");
 
-    prodList.forEach(Producer::stop);
-    consList.forEach(Consumer::stop);
-    exec.close();
+    PinningMonitor pins = pinning ? new PinningMonitor().start() : null;
+    RunResult r = PCRunner.run(cfg);
+    if (pins != null)
+      pins.close();
 
     System.out.printf("Produced=%d Consumed=%d QueueSize=%d%n",
-        produced.get(), consumed.get(),
-        queue instanceof BusySpinQueue<?> sp ? sp.size() : ((BoundedBuffer<?>) queue).size());
+        r.produced(), r.consumed(), r.queueSizeAtEnd());
+    System.out.printf("mode=%s %s%n", mode, r.cost());
+    System.out.printf("mode=%s Throughput=%.0f/s Occupancy(avg=%.1f max=%d)%n",
+        mode, r.throughput(), r.avgOccupancy(), r.maxOccupancy());
+    if (!cfg.virtualThreads())
+      System.out.printf("mode=%s CpuPerThread(producer=%.1fms consumer=%.1fms)%n",
+          mode, r.producerCpuMsPerThread(), r.consumerCpuMsPerThread());
+    if ("conflate".equalsIgnoreCase(mode))
+      System.out.printf("mode=%s Conflated=%d (%.1f%% of produced, never processed)%n",
+          mode, r.conflated(), r.produced() == 0 ? 0.0 : 100.0 * r.conflated() / r.produced());
+    if (r.elastic() != null)
+      System.out.printf("mode=%s Elastic %s%n", mode, r.elastic());
+    if (r.reorder() != null)
+      System.out.printf("mode=%s Reorder %s%n", mode, r.reorder().summary());
+    if (pins != null)
+      System.out.printf("mode=%s Pinning %s%n", mode, pins.summary());
+    System.out.printf("mode=%s Shutdown %s%n", mode, r.shutdown().summary());
+    System.out.printf("mode=%s Latency residence %s%n", mode, r.residence().summary());
+    System.out.printf("mode=%s Latency end-to-end %s%n", mode, r.endToEnd().summary());
 
-    System.out.println("TIP: Compare CPU with VisualVM: spin (busy-wait) vs monitor (wait/notify).");
+    System.out.println("TIP: Compare CPU with VisualVM: spin (busy-wait) vs monitor (wait/notify) vs ring (lock-free).");
   }
 }
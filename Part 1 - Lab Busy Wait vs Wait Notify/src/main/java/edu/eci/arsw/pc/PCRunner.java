@@ -0,0 +1,238 @@
+package edu.eci.arsw.pc;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ejecuta una corrida de productores/consumidores según un {@link RunConfig}
+ * y devuelve las métricas. Lo usan {@link PCApp} (una corrida) y
+ * {@link Sweep} (matriz de configuraciones en el mismo proceso).
+ */
+public final class PCRunner {
+  /** Periodo de muestreo de la ocupación de la cola. */
+  public static final long SAMPLE_MS = 10;
+  /** Periodo de {@link LiveMetrics#tick} (y de la línea {@code -Dlive=true}). */
+  public static final long LIVE_MS = 1000;
+  /** Plazo por defecto para drenar la cola al apagar ({@code -Dshutdown.drainMs}). */
+  public static final long DRAIN_MS = 1000;
+
+  private PCRunner() {
+  }
+
+  public static RunResult run(RunConfig cfg) throws InterruptedException {
+    WorkQueue<Long> queue = WorkQueues.create(cfg.mode(), cfg.capacity(), cfg.producers() == 1,
+        WaitStrategy.of(cfg.waitStrategy()), Math.max(1, cfg.consumers()));
+    try {
+      return run(cfg, queue);
+    } finally {
+      if (queue instanceof Closeable c) { // mmap: fuerza a disco y libera los archivos
+        try {
+          c.close();
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Corre sobre una cola ya creada (que no se cierra). Con
+   * {@code producers=0} o {@code consumers=0} sólo corre un lado: así cada
+   * proceso de {@link IpcRoles} corre su mitad sobre el anillo compartido.
+   */
+  public static RunResult run(RunConfig cfg, WorkQueue<Long> queue) throws InterruptedException {
+    ExecutorService exec = cfg.virtualThreads()
+        ? Executors.newVirtualThreadPerTaskExecutor()
+        : Executors.newThreadPerTaskExecutor(Thread.ofPlatform().name("pc-", 0).factory());
+    List<Producer> prodList = new ArrayList<>();
+    List<Consumer> consList = new ArrayList<>();
+    List<Future<?>> prodTasks = new ArrayList<>();
+    List<Future<?>> consTasks = new ArrayList<>();
+    LongAdder produced = new LongAdder();
+    LongAdder consumed = new LongAdder();
+    // lo que quedó en disco de otra ejecución sale primero, con marcas de tiempo de otra JVM: no se mide
+    long recovered = queue instanceof MappedLongQueue mq ? mq.recovered() : 0;
+    AtomicLong staleTaken = recovered > 0 ? new AtomicLong(recovered) : null;
+    AtomicLong staleDelivered = recovered > 0 ? new AtomicLong(recovered) : null;
+    LatencyHistogram inOrder = new LatencyHistogram(); // lo escribe el sink, bajo el monitor del resequencer
+    Resequencer reorder = cfg.reorderWindow() <= 0 ? null : new Resequencer(cfg.reorderWindow(), created -> {
+      consumed.increment();
+      if (!Consumer.stale(staleDelivered))
+        inOrder.record(System.nanoTime() - created);
+    });
+
+    ProcessStats before = ProcessStats.snapshot();
+    long[] mainCtxBefore = ProcessStats.currentThreadCtxSwitches();
+    long start = System.nanoTime();
+    List<QueueSubscriber<Long>> flowProducers = new ArrayList<>();
+    List<MeteredSubscriber> flowConsumers = new ArrayList<>();
+    if (cfg.flow()) { // mismos papeles como Flow: sólo se produce y consume lo pedido
+      int demand = Math.max(1, cfg.batch());
+      for (int i = 0; i < cfg.producers(); i++) {
+        var s = new QueueSubscriber<>(queue, demand, exec, produced); // cuenta sólo lo que entró a la cola
+        flowProducers.add(s);
+        new StampPublisher(exec, cfg.prodDelayMs()).subscribe(s);
+      }
+      QueuePublisher<Long> publisher = new QueuePublisher<>(queue, exec, demand);
+      for (int i = 0; i < cfg.consumers(); i++) {
+        var s = new MeteredSubscriber(consumed, cfg.consDelayMs(), demand);
+        s.skipStaleStamps(staleTaken);
+        flowConsumers.add(s);
+        publisher.subscribe(s);
+      }
+    }
+    for (int i = 0; !cfg.flow() && i < cfg.producers(); i++) {
+      var p = new Producer(queue, produced, cfg.prodDelayMs(), cfg.batch(), cfg.lingerMs(), cfg.burst());
+      prodList.add(p);
+      prodTasks.add(exec.submit(p));
+    }
+    for (int i = 0; !cfg.flow() && i < cfg.consumers(); i++) {
+      var c = reorder != null
+          ? new Consumer(queue, cfg.consDelayMs(), reorder)
+          : new Consumer(queue, consumed, cfg.consDelayMs(), cfg.batch());
+      c.skipStaleStamps(staleTaken);
+      consList.add(c);
+      consTasks.add(exec.submit(c));
+    }
+
+    // el hilo principal muestrea la ocupación mientras corre y publica las métricas en vivo
+    LiveMetrics live = new LiveMetrics(cfg, queue, produced, consumed, prodList, consList);
+    live.register();
+    boolean printLive = Boolean.getBoolean("live");
+    long end = start + cfg.durationMs() * 1_000_000L;
+    long nextTick = start + LIVE_MS * 1_000_000L;
+    long samples = 0;
+    long occupancySum = 0;
+    int maxOccupancy = 0;
+    try {
+      while (System.nanoTime() < end) {
+        int size = queue.size();
+        occupancySum += size;
+        maxOccupancy = Math.max(maxOccupancy, size);
+        samples++;
+        if (System.nanoTime() >= nextTick) {
+          nextTick += LIVE_MS * 1_000_000L;
+          live.tick();
+          if (printLive)
+            System.out.println(live.line());
+        }
+        Thread.sleep(Math.max(1, Math.min(SAMPLE_MS, (end - System.nanoTime()) / 1_000_000L)));
+      }
+    } finally {
+      live.unregister();
+    }
+    long producedAtEnd = produced.sum();
+    long consumedAtEnd = consumed.sum();
+    int queueSizeAtEnd = queue.size();
+    long elapsed = System.nanoTime() - start;
+    ProcessStats atWindowEnd = ProcessStats.snapshot(); // con todos los hilos aún vivos
+
+    long drainMs = Long.getLong("shutdown.drainMs", DRAIN_MS);
+    long stopStart = System.nanoTime();
+    long deadline = stopStart + drainMs * 1_000_000L;
+    // 1. dejan de producir; quien duerma entre elementos se despierta (stop), quien esté en put
+    //    termina en cuanto los consumidores hagan lugar
+    prodList.forEach(Producer::stop);
+    flowProducers.forEach(QueueSubscriber::cancel);
+    awaitAll(prodTasks, deadline);
+    // 2. se cierra la entrada y los consumidores vacían lo que quedó
+    boolean closed = queue.shutdown();
+    while (queue.size() > 0 && System.nanoTime() < deadline)
+      Thread.sleep(1);
+    if (closed) // al encontrarla cerrada y vacía, cada consumidor termina solo
+      awaitAll(consTasks, deadline);
+    // 3. sin estado cerrado, o vencido el plazo: se interrumpe a quien quede
+    consList.forEach(Consumer::stop);
+    flowConsumers.forEach(MeteredSubscriber::cancel);
+    exec.shutdownNow();
+    exec.close();
+    long left = queue.size();
+    boolean durable = queue instanceof MappedLongQueue; // lo que queda sigue en disco
+    long conflated = queue instanceof ConflatingQueue<?, ?> cq ? cq.conflated() : 0;
+    long inFlight = cfg.producers() > 0 && cfg.consumers() > 0 // lo que no está en ningún contador
+        ? Math.max(0, produced.sum() - consumed.sum() - left - conflated)
+        : -1;
+    ShutdownReport shutdown = new ShutdownReport(System.nanoTime() - stopStart, consumed.sum() - consumedAtEnd,
+        durable ? 0 : left, durable ? left : 0, inFlight, drainMs, closed);
+    ProcessStats cost = ctxSwitches(ProcessStats.snapshot().since(before), atWindowEnd.since(before),
+        mainCtxBefore, prodList, consList);
+
+    LatencyHistogram residence = new LatencyHistogram();
+    LatencyHistogram endToEnd = new LatencyHistogram();
+    long consumerCpu = 0;
+    for (Consumer c : consList) {
+      residence.merge(c.residence());
+      endToEnd.merge(c.endToEnd());
+      consumerCpu = addCpu(consumerCpu, c.cpuNanos());
+    }
+    long producerCpu = 0;
+    for (Producer p : prodList)
+      producerCpu = addCpu(producerCpu, p.cpuNanos());
+    for (MeteredSubscriber s : flowConsumers) {
+      residence.merge(s.residence());
+      endToEnd.merge(s.endToEnd());
+    }
+    if (cfg.flow()) // el trabajo salta entre tareas: no hay un hilo por papel que medir
+      producerCpu = consumerCpu = -1;
+    if (reorder != null)
+      endToEnd = inOrder; // hasta la entrega en orden
+
+    return new RunResult(cfg, producedAtEnd, consumedAtEnd, queueSizeAtEnd, elapsed, cost,
+        residence, endToEnd, producerCpu, consumerCpu,
+        samples == 0 ? 0 : (double) occupancySum / samples, maxOccupancy, reorder,
+        conflated,
+        queue instanceof ElasticBoundedBuffer<?> eb ? eb.summary() : null, shutdown);
+  }
+
+  /** Espera a que terminen las tareas, sin pasar de {@code deadline} ({@code System.nanoTime()}). */
+  private static void awaitAll(List<Future<?>> tasks, long deadline) throws InterruptedException {
+    for (Future<?> f : tasks) {
+      try {
+        f.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+      } catch (TimeoutException e) {
+        return; // plazo vencido: el resto se interrumpe
+      } catch (ExecutionException e) {
+        System.err.println("PCRunner: worker failed: " + e.getCause());
+      }
+    }
+  }
+
+  /**
+   * Cambios de contexto de la corrida. La foto final del proceso ya no ve a
+   * los hilos de plataforma que terminaron, así que se suman los que cada
+   * productor/consumidor guardó al terminar más los del hilo principal. Si
+   * algún papel no los tiene (hilos virtuales, modo flow) se usa la foto
+   * tomada al cerrar la ventana de medición, con los hilos aún vivos.
+   */
+  private static ProcessStats ctxSwitches(ProcessStats cost, ProcessStats window, long[] mainBefore,
+      List<Producer> producers, List<Consumer> consumers) {
+    long[] main = ProcessStats.currentThreadCtxSwitches();
+    List<long[]> workers = new ArrayList<>();
+    producers.forEach(p -> workers.add(p.ctxSwitches()));
+    consumers.forEach(c -> workers.add(c.ctxSwitches()));
+    if (main == null || mainBefore == null || workers.isEmpty() || workers.contains(null))
+      return cost.withCtxSwitches(window.voluntaryCtxSwitches(), window.involuntaryCtxSwitches());
+    long voluntary = main[0] - mainBefore[0];
+    long involuntary = main[1] - mainBefore[1];
+    for (long[] w : workers) {
+      voluntary += w[0];
+      involuntary += w[1];
+    }
+    return cost.withCtxSwitches(voluntary, involuntary);
+  }
+
+  private static long addCpu(long total, long thread) {
+    return total < 0 || thread < 0 ? -1 : total + thread;
+  }
+}
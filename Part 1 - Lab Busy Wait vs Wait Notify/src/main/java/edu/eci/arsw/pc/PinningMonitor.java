@@ -0,0 +1,112 @@
+package edu.eci.arsw.pc;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Mide, con JFR, cuánto bloquean los hilos virtuales a su carrier mientras
+ * corre {@link PCApp}:
+ * <ul>
+ * <li>{@code jdk.VirtualThreadPinned}: un hilo virtual se estacionó sin poder
+ * desmontarse (p. ej. un {@code park} dentro de {@code synchronized});</li>
+ * <li>{@code jdk.JavaMonitorWait} / {@code jdk.JavaMonitorEnter} emitidos por
+ * hilos virtuales: en JDK 21 {@code Object.wait()} y la entrada disputada a un
+ * monitor bloquean el carrier sin pasar por {@code park}, así que no generan
+ * el evento anterior aunque el efecto sea el mismo.</li>
+ * </ul>
+ * Los eventos se agrupan por el primer método del laboratorio en la pila, con
+ * umbral 0 para contar todas las esperas. También se reporta el pico de hilos
+ * de plataforma: el scheduler agrega carriers para compensar los clavados.
+ */
+public final class PinningMonitor implements AutoCloseable {
+  private static final String PINNED = "jdk.VirtualThreadPinned";
+  private static final String MONITOR_WAIT = "jdk.JavaMonitorWait";
+  private static final String MONITOR_ENTER = "jdk.JavaMonitorEnter";
+  private static final String LAB_PACKAGE = PinningMonitor.class.getPackageName() + ".";
+
+  private final RecordingStream stream = new RecordingStream();
+  private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+  private final LongAdder pinnedParks = new LongAdder();
+  private final LongAdder monitorWaits = new LongAdder();
+  private final LongAdder monitorEnters = new LongAdder();
+  private final LongAdder blockedNanos = new LongAdder();
+  private final Map<String, LongAdder> bySite = new ConcurrentHashMap<>();
+
+  public PinningMonitor() {
+    for (String event : new String[] { PINNED, MONITOR_WAIT, MONITOR_ENTER }) {
+      stream.enable(event).withThreshold(Duration.ZERO).withStackTrace();
+    }
+    stream.onEvent(PINNED, e -> record(e, pinnedParks));
+    stream.onEvent(MONITOR_WAIT, e -> {
+      if (isVirtual(e))
+        record(e, monitorWaits);
+    });
+    stream.onEvent(MONITOR_ENTER, e -> {
+      if (isVirtual(e))
+        record(e, monitorEnters);
+    });
+  }
+
+  public PinningMonitor start() {
+    threads.resetPeakThreadCount();
+    stream.startAsync();
+    return this;
+  }
+
+  private void record(RecordedEvent e, LongAdder counter) {
+    counter.increment();
+    blockedNanos.add(e.getDuration().toNanos());
+    bySite.computeIfAbsent(siteOf(e), k -> new LongAdder()).increment();
+  }
+
+  private static boolean isVirtual(RecordedEvent e) {
+    RecordedThread t = e.getThread();
+    return t != null && t.isVirtual();
+  }
+
+  private static String siteOf(RecordedEvent e) {
+    if (e.getStackTrace() == null)
+      return "?";
+    for (RecordedFrame f : e.getStackTrace().getFrames()) {
+      String type = f.getMethod().getType().getName();
+      if (type.startsWith(LAB_PACKAGE))
+        return type.substring(LAB_PACKAGE.length()) + "." + f.getMethod().getName();
+    }
+    return "?";
+  }
+
+  /** Detiene la grabación procesando los eventos pendientes. */
+  @Override
+  public void close() {
+    stream.stop();
+    stream.close();
+  }
+
+  /** Total de esperas que bloquearon un carrier. */
+  public long events() {
+    return pinnedParks.sum() + monitorWaits.sum() + monitorEnters.sum();
+  }
+
+  /** Resumen: cantidades por tipo, tiempo bloqueado, sitios más frecuentes y pico de hilos. */
+  public String summary() {
+    String sites = bySite.entrySet().stream()
+        .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> en) -> en.getValue().sum()).reversed())
+        .limit(3)
+        .map(en -> en.getKey() + "=" + en.getValue().sum())
+        .collect(Collectors.joining(", ", "[", "]"));
+    return String.format("events=%d (pinnedPark=%d monitorWait=%d monitorEnter=%d) blockedTime=%dms sites=%s peakPlatformThreads=%d",
+        events(), pinnedParks.sum(), monitorWaits.sum(), monitorEnters.sum(),
+        blockedNanos.sum() / 1_000_000, sites, threads.getPeakThreadCount());
+  }
+}
@@ -0,0 +1,359 @@
+package edu.eci.arsw.pc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * Cadena de etapas productor/consumidor unidas por buffers acotados:
+ * una fuente, cero o más etapas intermedias y un sumidero, cada uno con su
+ * propio número de hilos.
+ *
+ * <pre>{@code
+ * Pipeline p = Pipeline.from("gen", 2, () -> System.nanoTime())
+ *     .stage("parse", 4, 64, v -> parse(v))
+ *     .to("store", 1, 64, v -> store(v));
+ * p.start();
+ * ...
+ * p.stop(5_000); // ms para vaciar lo que está en camino
+ * }</pre>
+ *
+ * <ul>
+ * <li><b>Contrapresión</b>: cada salto es un {@link BoundedBuffer}
+ * (u otra {@link WorkQueue} con {@link Builder#buffers}); si una etapa se
+ * atrasa, su buffer de entrada se llena y {@code put} frena a la anterior,
+ * hasta la fuente.</li>
+ * <li><b>Cierre</b>: {@link #stop} detiene la fuente; cuando termina el
+ * último hilo de una etapa se encola una píldora por cada hilo de la
+ * siguiente, que termina después de vaciar su entrada. Así se procesa todo
+ * lo que ya estaba en camino.</li>
+ * <li><b>Métricas</b>: por etapa, elementos procesados, profundidad de su
+ * buffer de entrada (muestreada cada {@link PCRunner#SAMPLE_MS} ms) y cómo se
+ * reparte el tiempo de sus hilos entre trabajar, esperar entrada y esperar
+ * espacio en la salida. La etapa con más tiempo trabajando es el cuello de
+ * botella.</li>
+ * <li><b>Rebalanceo</b>: con {@link Builder#autoBalance}, una vez por
+ * segundo se agrega un hilo a la etapa intermedia o final más ocupada si
+ * trabaja &gt; 90% del tiempo y su entrada está más de medio llena. Agregar
+ * un hilo y {@link #stop} se excluyen (monitor de la cadena): las píldoras se
+ * cuentan cuando ya no puede aparecer un hilo nuevo.</li>
+ * </ul>
+ */
+public final class Pipeline {
+  /** Produce el siguiente elemento de la fuente. */
+  @FunctionalInterface
+  public interface Source<T> {
+    T next() throws InterruptedException;
+  }
+
+  /** Transforma un elemento; retornar null lo descarta. */
+  @FunctionalInterface
+  public interface Step<I, O> {
+    O apply(I item) throws InterruptedException;
+  }
+
+  /** Consume un elemento al final de la cadena. */
+  @FunctionalInterface
+  public interface Sink<I> {
+    void accept(I item) throws InterruptedException;
+  }
+
+  private static final Object POISON = new Object();
+  private static final long BALANCE_MS = 1000;
+
+  private final List<Stage> stages;
+  private final int maxThreads;
+  private final ExecutorService exec = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("pipe-", 0).factory());
+  private final List<String> events = new ArrayList<>();
+  private volatile boolean running;
+  private long startNanos;
+  private long stopNanos;
+  private Thread sampler;
+
+  private Pipeline(List<Stage> stages, int maxThreads) {
+    this.stages = stages;
+    this.maxThreads = maxThreads;
+  }
+
+  /** Inicia una cadena con una fuente de {@code threads} hilos. */
+  public static <T> Builder<T> from(String name, int threads, Source<? extends T> source) {
+    List<Stage> stages = new ArrayList<>();
+    stages.add(new Stage(name, threads, null, ignored -> source.next()));
+    return new Builder<>(stages, cap -> new BoundedBuffer<>(cap));
+  }
+
+  /** Arma la cadena etapa por etapa; {@code T} es el tipo que sale de la última. */
+  public static final class Builder<T> {
+    private final List<Stage> stages;
+    private IntFunction<WorkQueue<Object>> buffers;
+    private int maxThreads;
+
+    private Builder(List<Stage> stages, IntFunction<WorkQueue<Object>> buffers) {
+      this.stages = stages;
+      this.buffers = buffers;
+    }
+
+    /** Cola a usar en los saltos que se agreguen desde aquí (por defecto {@link BoundedBuffer}). */
+    public Builder<T> buffers(IntFunction<WorkQueue<Object>> factory) {
+      this.buffers = factory;
+      return this;
+    }
+
+    /** Permite al rebalanceo automático crecer cada etapa hasta {@code maxThreads} hilos. */
+    public Builder<T> autoBalance(int maxThreads) {
+      this.maxThreads = maxThreads;
+      return this;
+    }
+
+    /** Agrega una etapa de {@code threads} hilos con un buffer de entrada de {@code capacity}. */
+    @SuppressWarnings("unchecked")
+    public <R> Builder<R> stage(String name, int threads, int capacity, Step<? super T, ? extends R> step) {
+      Step<Object, Object> s = item -> step.apply((T) item);
+      stages.add(new Stage(name, threads, buffers.apply(capacity), s));
+      return (Builder<R>) this;
+    }
+
+    /** Cierra la cadena con el sumidero. */
+    @SuppressWarnings("unchecked")
+    public Pipeline to(String name, int threads, int capacity, Sink<? super T> sink) {
+      Step<Object, Object> s = item -> {
+        sink.accept((T) item);
+        return null;
+      };
+      stages.add(new Stage(name, threads, buffers.apply(capacity), s));
+      return new Pipeline(List.copyOf(stages), maxThreads);
+    }
+  }
+
+  /** Arranca todos los hilos y el muestreo. */
+  public synchronized void start() {
+    if (startNanos != 0)
+      throw new IllegalStateException("already started");
+    for (int i = 0; i + 1 < stages.size(); i++)
+      stages.get(i).next = stages.get(i + 1);
+    running = true;
+    startNanos = System.nanoTime();
+    for (Stage s : stages)
+      for (int i = 0; i < s.configured; i++)
+        addWorker(s);
+    sampler = Thread.ofVirtual().name("pipe-sampler").start(this::sample);
+  }
+
+  /**
+   * Detiene la fuente y espera a que el resto vacíe lo que estaba en camino;
+   * si no termina en {@code timeoutMs}, interrumpe a todos.
+   *
+   * @return true si se vació por completo
+   */
+  public boolean stop(long timeoutMs) throws InterruptedException {
+    synchronized (this) {
+      running = false; // desde aquí balance no agrega hilos
+    }
+    exec.shutdown();
+    boolean drained = exec.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS);
+    if (!drained) {
+      exec.shutdownNow();
+      exec.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+    sampler.interrupt();
+    sampler.join();
+    stopNanos = System.nanoTime();
+    return drained;
+  }
+
+  /** Una línea por etapa, el cuello de botella y los rebalanceos hechos. */
+  public List<String> report() {
+    long elapsed = (stopNanos != 0 ? stopNanos : System.nanoTime()) - startNanos;
+    List<String> lines = new ArrayList<>();
+    Stage bottleneck = null;
+    for (Stage s : stages) {
+      lines.add(s.report(elapsed));
+      if (bottleneck == null || s.busyRatio() > bottleneck.busyRatio())
+        bottleneck = s;
+    }
+    lines.add(String.format("bottleneck=%s (busy=%.0f%%)", bottleneck.name, 100 * bottleneck.busyRatio()));
+    synchronized (events) {
+      lines.addAll(events);
+    }
+    return lines;
+  }
+
+  private void addWorker(Stage s) {
+    s.live.incrementAndGet();
+    s.threads.incrementAndGet();
+    try {
+      exec.execute(() -> work(s));
+    } catch (RejectedExecutionException e) { // rebalanceo justo al cerrar
+      s.live.decrementAndGet();
+      s.threads.decrementAndGet();
+    }
+  }
+
+  private void work(Stage s) {
+    try {
+      if (s.input == null) {
+        while (running)
+          s.handle(null);
+      } else {
+        while (true) {
+          long t0 = System.nanoTime();
+          Object item = s.input.take();
+          s.waitNanos.add(System.nanoTime() - t0);
+          if (item == POISON)
+            break;
+          s.handle(item);
+        }
+      }
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+    } finally {
+      if (s.live.decrementAndGet() == 0 && s.next != null && !Thread.currentThread().isInterrupted())
+        s.next.poison();
+    }
+  }
+
+  private void sample() {
+    long lastBalance = System.nanoTime();
+    long[] lastBusy = new long[stages.size()];
+    long[] lastTotal = new long[stages.size()];
+    try {
+      while (true) {
+        for (Stage s : stages)
+          s.sampleDepth();
+        if (maxThreads > 0 && running && System.nanoTime() - lastBalance >= BALANCE_MS * 1_000_000L) {
+          lastBalance = System.nanoTime();
+          balance(lastBusy, lastTotal);
+        }
+        Thread.sleep(PCRunner.SAMPLE_MS);
+      }
+    } catch (InterruptedException ie) {
+      // fin de la corrida
+    }
+  }
+
+  /** Agrega un hilo a la etapa (no fuente) más ocupada en el último intervalo, si está saturada. */
+  private void balance(long[] lastBusy, long[] lastTotal) {
+    Stage best = null;
+    double bestRatio = 0;
+    for (int i = 1; i < stages.size(); i++) {
+      Stage s = stages.get(i);
+      long busy = s.busyNanos.sum();
+      long total = busy + s.waitNanos.sum() + s.blockedNanos.sum();
+      double ratio = total == lastTotal[i] ? 0 : (double) (busy - lastBusy[i]) / (total - lastTotal[i]);
+      lastBusy[i] = busy;
+      lastTotal[i] = total;
+      double fill = s.windowDepth() / s.input.capacity();
+      if (ratio > 0.9 && fill > 0.5 && ratio > bestRatio && s.threads.get() < maxThreads) {
+        best = s;
+        bestRatio = ratio;
+      }
+    }
+    if (best == null)
+      return;
+    synchronized (this) {
+      if (!running) // stop() ya empezó: un hilo nuevo no recibiría píldora
+        return;
+      addWorker(best);
+    }
+    synchronized (events) {
+      events.add(String.format("autobalance t=%.1fs: %s -> %d threads (busy=%.0f%%)",
+          (System.nanoTime() - startNanos) / 1e9, best.name, best.threads.get(), 100 * bestRatio));
+    }
+  }
+
+  private static final class Stage {
+    final String name;
+    final int configured;
+    final WorkQueue<Object> input; // null en la fuente
+    final Step<Object, Object> step; // en la fuente ignora su argumento
+    final AtomicInteger live = new AtomicInteger();
+    final AtomicInteger threads = new AtomicInteger();
+    final LongAdder processed = new LongAdder();
+    final LongAdder busyNanos = new LongAdder();
+    final LongAdder waitNanos = new LongAdder();
+    final LongAdder blockedNanos = new LongAdder();
+    volatile Stage next;
+    // muestreo: sólo lo toca el hilo sampler
+    long depthSum;
+    long samples;
+    int maxDepth;
+    long windowSum;
+    long windowSamples;
+
+    Stage(String name, int threads, WorkQueue<Object> input, Step<Object, Object> step) {
+      if (threads <= 0)
+        throw new IllegalArgumentException(name + ": threads must be > 0");
+      this.name = name;
+      this.configured = threads;
+      this.input = input;
+      this.step = step;
+    }
+
+    /** Procesa un elemento (en la fuente, genera uno) y pasa el resultado a la siguiente etapa. */
+    void handle(Object item) throws InterruptedException {
+      long t0 = System.nanoTime();
+      Object out = step.apply(item);
+      long t1 = System.nanoTime();
+      busyNanos.add(t1 - t0);
+      processed.increment();
+      if (out != null && next != null) {
+        next.input.put(out);
+        blockedNanos.add(System.nanoTime() - t1);
+      }
+    }
+
+    /** Una píldora por hilo vivo: cada uno termina al sacarla, después de lo que había antes. */
+    void poison() {
+      try {
+        for (int i = live.get(); i > 0; i--)
+          input.put(POISON);
+      } catch (InterruptedException ie) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    void sampleDepth() {
+      if (input == null)
+        return;
+      int d = input.size();
+      depthSum += d;
+      samples++;
+      maxDepth = Math.max(maxDepth, d);
+      windowSum += d;
+      windowSamples++;
+    }
+
+    /** Profundidad media desde la última llamada. */
+    double windowDepth() {
+      double avg = windowSamples == 0 ? 0 : (double) windowSum / windowSamples;
+      windowSum = 0;
+      windowSamples = 0;
+      return avg;
+    }
+
+    double busyRatio() {
+      long busy = busyNanos.sum();
+      long total = busy + waitNanos.sum() + blockedNanos.sum();
+      return total == 0 ? 0 : (double) busy / total;
+    }
+
+    String report(long elapsedNanos) {
+      long busy = busyNanos.sum();
+      long wait = waitNanos.sum();
+      long blocked = blockedNanos.sum();
+      double total = Math.max(1, busy + wait + blocked);
+      String depth = input == null ? "source"
+          : String.format("depth(avg=%.1f max=%d cap=%d)", samples == 0 ? 0.0 : (double) depthSum / samples,
+              maxDepth, input.capacity());
+      return String.format("stage=%s threads=%d processed=%d throughput=%.0f/s %s busy=%.0f%% waitIn=%.0f%% blockedOut=%.0f%%",
+          name, threads.get(), processed.sum(), processed.sum() * 1e9 / Math.max(1, elapsedNanos), depth,
+          100 * busy / total, 100 * wait / total, 100 * blocked / total);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package edu.eci.arsw.pc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Corre una {@link Pipeline} descrita en {@code -Dpipeline=nombre:hilos:ms,...}:
+ * la fuente son {@code producers} hilos que generan marcas de tiempo cada
+ * {@code prodDelayMs}; cada etapa simula {@code ms} de trabajo por elemento y
+ * la última es el sumidero, que mide la latencia extremo a extremo. Todos los
+ * saltos son {@link BoundedBuffer} de {@code capacity}.
+ *
+ * <p>{@code -Dpipeline.autobalance=N} deja que el rebalanceo crezca cada etapa
+ * hasta N hilos.
+ */
+public final class PipelineApp {
+  private PipelineApp() {
+  }
+
+  private record StageSpec(String name, int threads, long workMs) {
+    static StageSpec parse(String spec) {
+      String[] p = spec.trim().split(":");
+      if (p.length != 3)
+        throw new IllegalArgumentException("stage spec must be name:threads:workMs, got " + spec);
+      return new StageSpec(p[0], Integer.parseInt(p[1]), Long.parseLong(p[2]));
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    RunConfig cfg = RunConfig.fromSystemProperties();
+    List<StageSpec> specs = new ArrayList<>();
+    for (String s : System.getProperty("pipeline").split(","))
+      specs.add(StageSpec.parse(s));
+    if (specs.isEmpty())
+      throw new IllegalArgumentException("-Dpipeline needs at least one stage");
+    int maxThreads = Integer.getInteger("pipeline.autobalance", 0);
+
+    System.out.printf("Pipeline source=%d threads (prodDelay=%dms) stages=%s capacity=%d duration=%ds autobalance=%s%n",
+        cfg.producers(), cfg.prodDelayMs(), System.getProperty("pipeline"), cfg.capacity(), cfg.durationMs() / 1000,
+        maxThreads > 0 ? "max " + maxThreads : "off");
+
+    // un histograma por hilo del sumidero, combinados al final
+    ConcurrentLinkedQueue<LatencyHistogram> histograms = new ConcurrentLinkedQueue<>();
+    ThreadLocal<LatencyHistogram> local = ThreadLocal.withInitial(() -> {
+      LatencyHistogram h = new LatencyHistogram();
+      histograms.add(h);
+      return h;
+    });
+
+    long prodDelay = cfg.prodDelayMs();
+    Pipeline.Builder<Long> b = Pipeline.<Long>from("source", cfg.producers(), () -> {
+      if (prodDelay > 0)
+        Thread.sleep(prodDelay);
+      return System.nanoTime();
+    }).autoBalance(maxThreads);
+    for (StageSpec s : specs.subList(0, specs.size() - 1))
+      b = b.stage(s.name(), s.threads(), cfg.capacity(), v -> work(s.workMs(), v));
+    StageSpec last = specs.get(specs.size() - 1);
+    Pipeline pipeline = b.to(last.name(), last.threads(), cfg.capacity(), v -> {
+      work(last.workMs(), v);
+      local.get().record(System.nanoTime() - v);
+    });
+
+    ProcessStats before = ProcessStats.snapshot();
+    pipeline.start();
+    Thread.sleep(cfg.durationMs());
+    long t0 = System.nanoTime();
+    boolean drained = pipeline.stop(10_000);
+    long shutdownMs = (System.nanoTime() - t0) / 1_000_000;
+    ProcessStats cost = ProcessStats.snapshot().since(before);
+
+    pipeline.report().forEach(System.out::println);
+    LatencyHistogram endToEnd = new LatencyHistogram();
+    histograms.forEach(endToEnd::merge);
+    System.out.printf("shutdown=%dms drained=%s%n", shutdownMs, drained);
+    System.out.printf("pipeline %s%n", cost);
+    System.out.printf("pipeline Latency end-to-end %s%n", endToEnd.summary());
+  }
+
+  private static Long work(long ms, Long v) throws InterruptedException {
+    if (ms > 0)
+      Thread.sleep(ms);
+    return v;
+  }
+}
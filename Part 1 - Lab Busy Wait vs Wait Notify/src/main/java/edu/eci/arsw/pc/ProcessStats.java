@@ -0,0 +1,112 @@
+package edu.eci.arsw.pc;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Foto del costo de CPU, cambios de contexto, memoria asignada y GC del
+ * proceso, para comparar modos en el reporte final de {@link PCApp}.
+ *
+ * <p>Los cambios de contexto se leen de {@code /proc/self/task/*&#47;status}
+ * (sólo Linux); los contadores que la plataforma no expone se reportan como -1.
+ * Esa suma sólo incluye los hilos vivos al tomar la foto: lo que acumuló un
+ * hilo que ya terminó se pierde. Por eso cada hilo productor/consumidor guarda
+ * los suyos al terminar ({@link #currentThreadCtxSwitches}) y
+ * {@link PCRunner} los suma con {@link #withCtxSwitches}.
+ */
+public record ProcessStats(long cpuNanos, long voluntaryCtxSwitches, long involuntaryCtxSwitches,
+    long allocatedBytes, long gcCount, long gcMillis) {
+
+  public static ProcessStats snapshot() {
+    long cpu = -1;
+    if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os)
+      cpu = os.getProcessCpuTime();
+    long allocated = -1;
+    if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean tm
+        && tm.isThreadAllocatedMemorySupported() && tm.isThreadAllocatedMemoryEnabled())
+      allocated = tm.getTotalThreadAllocatedBytes();
+    long gcCount = 0;
+    long gcMillis = 0;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      gcCount += Math.max(0, gc.getCollectionCount());
+      gcMillis += Math.max(0, gc.getCollectionTime());
+    }
+    long[] ctx = { -1, -1 };
+    Path tasks = Path.of("/proc/self/task");
+    if (Files.isDirectory(tasks)) {
+      ctx[0] = 0;
+      ctx[1] = 0;
+      try (DirectoryStream<Path> ds = Files.newDirectoryStream(tasks)) {
+        for (Path task : ds) {
+          try {
+            addCtxSwitches(task.resolve("status"), ctx);
+          } catch (IOException ignored) {
+            // el hilo terminó mientras se leía
+          }
+        }
+      } catch (IOException e) {
+        ctx[0] = ctx[1] = -1;
+      }
+    }
+    return new ProcessStats(cpu, ctx[0], ctx[1], allocated, gcCount, gcMillis);
+  }
+
+  /**
+   * Cambios de contexto {voluntarios, involuntarios} acumulados por el hilo
+   * actual desde que nació, de {@code /proc/thread-self/status}.
+   *
+   * @return null sin {@code /proc} o en un hilo virtual (se contaría su
+   *         portador, que comparte con otros)
+   */
+  public static long[] currentThreadCtxSwitches() {
+    if (Thread.currentThread().isVirtual())
+      return null;
+    long[] ctx = new long[2];
+    try {
+      addCtxSwitches(Path.of("/proc/thread-self/status"), ctx);
+      return ctx;
+    } catch (IOException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  /** Copia con otros contadores de cambios de contexto. */
+  public ProcessStats withCtxSwitches(long voluntary, long involuntary) {
+    return new ProcessStats(cpuNanos, voluntary, involuntary, allocatedBytes, gcCount, gcMillis);
+  }
+
+  private static void addCtxSwitches(Path status, long[] ctx) throws IOException {
+    for (String line : Files.readAllLines(status)) {
+      if (line.startsWith("voluntary_ctxt_switches:"))
+        ctx[0] += Long.parseLong(line.substring(line.indexOf(':') + 1).trim());
+      else if (line.startsWith("nonvoluntary_ctxt_switches:"))
+        ctx[1] += Long.parseLong(line.substring(line.indexOf(':') + 1).trim());
+    }
+  }
+
+  /** Diferencia {@code this - before}; los contadores no disponibles quedan en -1. */
+  public ProcessStats since(ProcessStats before) {
+    return new ProcessStats(
+        diff(cpuNanos, before.cpuNanos),
+        diff(voluntaryCtxSwitches, before.voluntaryCtxSwitches),
+        diff(involuntaryCtxSwitches, before.involuntaryCtxSwitches),
+        diff(allocatedBytes, before.allocatedBytes),
+        gcCount - before.gcCount,
+        gcMillis - before.gcMillis);
+  }
+
+  private static long diff(long after, long before) {
+    return after < 0 || before < 0 ? -1 : after - before;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("CpuTime=%dms CtxSwitches(voluntary=%d involuntary=%d) Allocated=%dKB GC(count=%d time=%dms)",
+        cpuNanos < 0 ? -1 : cpuNanos / 1_000_000, voluntaryCtxSwitches, involuntaryCtxSwitches,
+        allocatedBytes < 0 ? -1 : allocatedBytes / 1024, gcCount, gcMillis);
+  }
+}
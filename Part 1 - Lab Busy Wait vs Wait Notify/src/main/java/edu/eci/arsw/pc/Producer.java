@@ -1,42 +1,180 @@
 package edu.eci.arsw.pc;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
+/**
+ * Cada elemento es el {@code System.nanoTime()} de su creación, para que
+ * {@link Consumer} mida la latencia sin asignar un objeto por elemento.
+ */
 public final class Producer implements Runnable {
-  private final AtomicLong counter;
+  private final LongAdder counter;
   private final long delayMs;
-  private final Object queue; // BusySpinQueue<?> or BoundedBuffer<?>
+  private final WorkQueue<Long> queue;
+  private final int batchSize;
+  private final long lingerMs;
+  private final BurstProfile burst;
+  private final long startNanos = System.nanoTime();
   private volatile boolean running = true;
+  private volatile long cpuNanos = -1;
+  private volatile long[] ctxSwitches;
+  private volatile Thread thread;
+  private volatile boolean pacing; // sólo se escribe con espera simulada
 
-  public Producer(Object queue, AtomicLong counter, long delayMs) {
+  public Producer(WorkQueue<Long> queue, LongAdder counter, long delayMs) {
+    this(queue, counter, delayMs, 1, 0L);
+  }
+
+  /**
+   * Con {@code batchSize > 1} los elementos pasan por un
+   * {@link ProducerAccumulator} que los entrega por lotes.
+   */
+  public Producer(WorkQueue<Long> queue, LongAdder counter, long delayMs, int batchSize, long lingerMs) {
+    this(queue, counter, delayMs, batchSize, lingerMs, null);
+  }
+
+  /** Con {@code burst} distinto de null produce a ráfagas ({@link BurstProfile}). */
+  public Producer(WorkQueue<Long> queue, LongAdder counter, long delayMs, int batchSize, long lingerMs,
+      BurstProfile burst) {
     this.queue = queue;
     this.counter = counter;
     this.delayMs = delayMs;
+    this.batchSize = batchSize;
+    this.lingerMs = lingerMs;
+    this.burst = burst;
   }
 
+  /** Deja de producir; si el hilo está durmiendo entre elementos lo despierta para que termine ya. */
   public void stop() {
     running = false;
+    Thread t = thread;
+    if (t != null)
+      LockSupport.unpark(t); // sin interrumpir: un put en curso no se pierde
+  }
+
+  /** CPU consumida por el hilo al terminar; -1 si sigue corriendo o es un hilo virtual. */
+  public long cpuNanos() {
+    return cpuNanos;
+  }
+
+  /**
+   * Cambios de contexto {voluntarios, involuntarios} del hilo al terminar;
+   * null si sigue corriendo, es un hilo virtual o no hay {@code /proc}.
+   */
+  public long[] ctxSwitches() {
+    return ctxSwitches;
+  }
+
+  /**
+   * Estado del hilo que corre este papel (null antes de arrancar). Bloqueado
+   * en {@code put}/{@code take} queda en WAITING, BLOCKED o, si la cola
+   * espera con plazo ({@code awaitNanos}, {@code parkNanos}), TIMED_WAITING.
+   * Leerlo no toca el camino caliente.
+   */
+  public Thread.State state() {
+    Thread t = thread;
+    return t == null ? null : t.getState();
+  }
+
+  /** Si está durmiendo la espera simulada y no en la cola; ver {@link #state()}. */
+  public boolean pacing() {
+    return pacing;
   }
 
   @Override
   public void run() {
-    long i = 0;
+    thread = Thread.currentThread();
+    try {
+      loop();
+    } catch (QueueClosedException closed) {
+      // apagado: la cola se cerró (y, para el consumidor, ya se vació)
+    } finally {
+      cpuNanos = ManagementFactory.getThreadMXBean().getCurrentThreadCpuTime();
+      ctxSwitches = ProcessStats.currentThreadCtxSwitches(); // el hilo es de esta tarea: todo lo suyo cuenta
+    }
+  }
+
+  private void loop() {
+    // se elige el ciclo una sola vez: dentro de cada uno la llamada es monomórfica
+    if (batchSize > 1)
+      runBatched(new ProducerAccumulator<>(queue, batchSize, lingerMs));
+    else if (queue instanceof LongWorkQueue lq)
+      runPrimitive(lq);
+    else
+      runBoxed();
+  }
+
+  private void runBoxed() {
     try {
       while (running) {
-        if (queue instanceof BusySpinQueue<?> sp) {
-          @SuppressWarnings("unchecked")
-          BusySpinQueue<Long> q = (BusySpinQueue<Long>) sp;
-          q.put(i);
-        } else if (queue instanceof BoundedBuffer<?> bb) {
-          @SuppressWarnings("unchecked")
-          BoundedBuffer<Long> q = (BoundedBuffer<Long>) bb;
-          q.put(i);
+        queue.put(System.nanoTime());
+        counter.increment();
+        pace();
+      }
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void runPrimitive(LongWorkQueue q) {
+    try {
+      while (running) {
+        q.putLong(System.nanoTime()); // sin boxing
+        counter.increment();
+        pace();
+      }
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** Espera entre elementos: {@code delayMs} y, con ráfagas, hasta la siguiente si está en silencio. */
+  private void pace() throws InterruptedException {
+    pace(null);
+  }
+
+  /** Como {@link #pace()}, pero sin dejar que el lote de {@code acc} pase su linger mientras duerme. */
+  private void pace(ProducerAccumulator<Long> acc) throws InterruptedException {
+    if (delayMs > 0)
+      sleep(delayMs, acc);
+    if (burst != null) {
+      long quiet = burst.quietMsLeft((System.nanoTime() - startNanos) / 1_000_000L);
+      if (quiet > 0)
+        sleep(quiet, acc);
+    }
+  }
+
+  /**
+   * Duerme {@code ms}, o hasta que {@link #stop()} lo despierte; si hay un
+   * lote pendiente se despierta cuando vence su linger y lo entrega.
+   */
+  private void sleep(long ms, ProducerAccumulator<Long> acc) throws InterruptedException {
+    long end = System.nanoTime() + ms * 1_000_000L;
+    for (long left; running && (left = end - System.nanoTime()) > 0; ) {
+      if (acc != null && acc.pending() > 0) {
+        long toLinger = acc.lingerDeadline() - System.nanoTime();
+        if (toLinger <= 0) {
+          counter.add(acc.flushIfExpired());
+          continue;
         }
-        counter.incrementAndGet();
-        if (delayMs > 0)
-          Thread.sleep(delayMs);
-        i++;
+        left = Math.min(left, toLinger);
+      }
+      pacing = true;
+      LockSupport.parkNanos(this, left);
+      pacing = false;
+      if (Thread.interrupted())
+        throw new InterruptedException();
+    }
+  }
+
+  private void runBatched(ProducerAccumulator<Long> acc) {
+    try {
+      while (running) {
+        counter.add(acc.add(System.nanoTime())); // el linger cuenta como latencia
+        pace(acc);
       }
+      counter.add(acc.flush());
     } catch (InterruptedException ie) {
       Thread.currentThread().interrupt();
     }
@@ -0,0 +1,83 @@
+package edu.eci.arsw.pc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Acumulador del lado del productor (al estilo del {@code linger.ms} de
+ * Kafka): agrupa elementos localmente y los entrega al buffer con un solo
+ * {@link WorkQueue#putAll} cuando se alcanzan {@code batchSize} elementos
+ * o cuando el más antiguo lleva {@code lingerMs} esperando.
+ *
+ * <p>No es thread-safe: cada productor usa su propio acumulador. El linger se
+ * evalúa en cada {@link #add}, sin hilo temporizador; un productor que va a
+ * dormir entre elementos debe despertarse en {@link #lingerDeadline} y llamar
+ * a {@link #flushIfExpired}, o el lote esperaría hasta el siguiente
+ * {@code add}.
+ */
+public final class ProducerAccumulator<T> {
+  private final WorkQueue<T> buffer;
+  private final int batchSize;
+  private final long lingerNanos;
+  private final List<T> batch;
+  private long firstAddNanos;
+
+  public ProducerAccumulator(WorkQueue<T> buffer, int batchSize, long lingerMs) {
+    if (batchSize <= 0)
+      throw new IllegalArgumentException("batchSize must be > 0");
+    if (lingerMs < 0)
+      throw new IllegalArgumentException("lingerMs must be >= 0");
+    this.buffer = buffer;
+    this.batchSize = batchSize;
+    this.lingerNanos = lingerMs * 1_000_000L;
+    this.batch = new ArrayList<>(batchSize);
+  }
+
+  /**
+   * Agrega un elemento y vacía el lote si está lleno o venció el linger.
+   *
+   * @return cantidad de elementos entregados al buffer en esta llamada
+   */
+  public int add(T item) throws InterruptedException {
+    if (batch.isEmpty())
+      firstAddNanos = System.nanoTime();
+    batch.add(item);
+    if (batch.size() >= batchSize || System.nanoTime() - firstAddNanos >= lingerNanos)
+      return flush();
+    return 0;
+  }
+
+  /** Elementos acumulados que aún no se entregaron. */
+  public int pending() {
+    return batch.size();
+  }
+
+  /**
+   * Instante ({@link System#nanoTime}) en que vence el linger del lote
+   * pendiente; sólo tiene sentido si {@link #pending} es mayor que 0.
+   */
+  public long lingerDeadline() {
+    return firstAddNanos + lingerNanos;
+  }
+
+  /**
+   * Entrega el lote pendiente si ya venció su linger.
+   *
+   * @return cantidad de elementos entregados al buffer en esta llamada
+   */
+  public int flushIfExpired() throws InterruptedException {
+    if (batch.isEmpty() || System.nanoTime() - lingerDeadline() < 0)
+      return 0;
+    return flush();
+  }
+
+  /** Entrega al buffer lo acumulado, aunque el lote no esté completo. */
+  public int flush() throws InterruptedException {
+    int n = batch.size();
+    if (n == 0)
+      return 0;
+    buffer.putAll(batch);
+    batch.clear();
+    return n;
+  }
+}
@@ -0,0 +1,13 @@
+package edu.eci.arsw.pc;
+
+/**
+ * La cola se cerró con {@link WorkQueue#shutdown()}: ya no acepta elementos
+ * o, al sacar, ya no le queda ninguno.
+ */
+public final class QueueClosedException extends IllegalStateException {
+  private static final long serialVersionUID = 1L;
+
+  public QueueClosedException() {
+    super("queue closed");
+  }
+}
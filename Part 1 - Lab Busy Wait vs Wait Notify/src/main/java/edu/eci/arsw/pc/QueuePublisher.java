@@ -0,0 +1,57 @@
+package edu.eci.arsw.pc;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expone una {@link WorkQueue} como {@link Flow.Publisher}: cada suscriptor
+ * compite con los demás por los elementos, como un {@link Consumer}, pero sólo
+ * se saca de la cola lo que pidió con {@code request(n)}.
+ *
+ * <p>Con demanda, la tarea de entrega espera el primer elemento con
+ * {@code poll} acotado (para notar una cancelación) y agrega los que ya estén
+ * disponibles, hasta {@code min(demanda, maxBatch)} por vuelta. Si la cola
+ * se cerró y ya está vacía, completa al suscriptor.
+ */
+public final class QueuePublisher<T> implements Flow.Publisher<T> {
+  private static final long POLL_MS = 10;
+
+  private final WorkQueue<T> queue;
+  private final Executor executor;
+  private final int maxBatch;
+
+  public QueuePublisher(WorkQueue<T> queue, Executor executor, int maxBatch) {
+    if (maxBatch <= 0)
+      throw new IllegalArgumentException("maxBatch must be > 0");
+    this.queue = queue;
+    this.executor = executor;
+    this.maxBatch = maxBatch;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super T> subscriber) {
+    subscriber.onSubscribe(new DemandSubscription<T>(subscriber, executor) {
+      @Override
+      protected long emit(long max) throws InterruptedException {
+        long n = 0;
+        try {
+          T v = queue.poll(POLL_MS, TimeUnit.MILLISECONDS);
+          if (v == null)
+            return 0;
+          subscriber.onNext(v);
+          n = 1;
+          long limit = Math.min(max, maxBatch);
+          while (n < limit && !isCancelled() && (v = queue.poll(0, TimeUnit.NANOSECONDS)) != null) {
+            subscriber.onNext(v);
+            n++;
+          }
+        } catch (QueueClosedException closed) { // cerrada y vacía: no va a llegar nada más
+          cancel();
+          subscriber.onComplete();
+        }
+        return n;
+      }
+    });
+  }
+}
@@ -0,0 +1,138 @@
+package edu.eci.arsw.pc;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lleva a una {@link WorkQueue} lo que emite un {@link Flow.Publisher}. Pide
+ * {@code prefetch} elementos al suscribirse y repone la mitad cada vez que
+ * encoló esa mitad, así que nunca hay más de {@code prefetch} en camino.
+ *
+ * <p>{@code onNext} no bloquea el hilo del publicador: intenta un
+ * {@code offer} sin espera y, si la cola está llena, guarda el elemento (un
+ * {@code Flow.Subscriber} no puede rechazar lo que pidió; a lo sumo son
+ * {@code prefetch}) y deja de reponer demanda. Una tarea en el
+ * {@code executor} los reintenta con {@code offer} acotado, en orden, y al
+ * vaciarlos la demanda vuelve a fluir: la contrapresión llega hasta el
+ * productor sin dejar un hilo suyo esperando.
+ */
+public final class QueueSubscriber<T> implements Flow.Subscriber<T> {
+  private static final long OFFER_MS = 10;
+
+  private final WorkQueue<T> queue;
+  private final Executor executor;
+  private final LongAdder accepted;
+  private final long prefetch;
+  private final long refill;
+  private final Deque<T> pending = new ArrayDeque<>(); // protegidos por this
+  private boolean retrying;
+  private long sinceRequest;
+  private volatile Flow.Subscription subscription;
+  private volatile boolean cancelled;
+
+  /**
+   * @param executor donde corren los reintentos con la cola llena
+   * @param accepted se incrementa por cada elemento que entró a la cola
+   */
+  public QueueSubscriber(WorkQueue<T> queue, int prefetch, Executor executor, LongAdder accepted) {
+    if (prefetch <= 0)
+      throw new IllegalArgumentException("prefetch must be > 0");
+    this.queue = queue;
+    this.executor = executor;
+    this.accepted = accepted;
+    this.prefetch = prefetch;
+    this.refill = Math.max(1, prefetch / 2);
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription s) {
+    this.subscription = s;
+    s.request(prefetch);
+  }
+
+  @Override
+  public void onNext(T item) {
+    synchronized (this) {
+      if (cancelled || (pending.isEmpty() && offer(item, 0)))
+        return;
+      if (cancelled) // la cola se cerró al intentar
+        return;
+      pending.addLast(item); // llena: espera su turno detrás de los anteriores
+      if (retrying)
+        return;
+      retrying = true;
+    }
+    try {
+      executor.execute(this::retry);
+    } catch (RejectedExecutionException e) {
+      cancel(); // el executor ya se cerró
+    }
+  }
+
+  /** Deja de pedir al productor y descarta lo que no llegó a encolarse. */
+  public void cancel() {
+    cancelled = true;
+    Flow.Subscription s = subscription;
+    if (s != null)
+      s.cancel();
+    synchronized (this) {
+      pending.clear();
+    }
+  }
+
+  @Override
+  public void onError(Throwable t) {
+    System.err.println("QueueSubscriber: upstream failed: " + t);
+  }
+
+  @Override
+  public void onComplete() {
+  }
+
+  /** Encola lo pendiente con {@code offer} acotado (para notar una cancelación). */
+  private void retry() {
+    while (true) {
+      T head;
+      synchronized (this) {
+        head = pending.peekFirst();
+        if (head == null || cancelled) {
+          retrying = false;
+          return;
+        }
+      }
+      if (offer(head, OFFER_MS)) {
+        synchronized (this) {
+          pending.pollFirst(); // sólo esta tarea saca; onNext sólo agrega al final
+        }
+      }
+    }
+  }
+
+  /** Intenta encolar hasta {@code ms}; si entró, lo cuenta y repone demanda cada {@code refill}. */
+  private boolean offer(T item, long ms) {
+    try {
+      if (!queue.offer(item, ms, TimeUnit.MILLISECONDS))
+        return false;
+    } catch (InterruptedException ie) {
+      cancel();
+      Thread.currentThread().interrupt();
+      return false;
+    } catch (QueueClosedException closed) {
+      cancel();
+      return false;
+    }
+    accepted.increment();
+    synchronized (this) {
+      if (++sinceRequest == refill) {
+        sinceRequest = 0;
+        subscription.request(refill);
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,97 @@
+package edu.eci.arsw.pc;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Devuelve al orden de la cola lo que varios consumidores procesan en
+ * paralelo.
+ *
+ * <p>Cada consumidor saca con {@link #claim}, que numera los elementos en el
+ * mismo orden en que salen de la cola (el orden en que los productores los
+ * encolaron). Al terminar de procesar, el consumidor llama a
+ * {@link #complete}. El elemento queda en la ventana hasta que se completaron
+ * todos los anteriores, y entonces se entrega a {@code sink} en orden. La
+ * ventana es acotada: quien completa una secuencia {@code >= next + window}
+ * espera (stall) a que la ventana avance.
+ *
+ * <p>{@code sink} corre con el monitor tomado; debe ser breve.
+ */
+public final class Resequencer {
+  private final Object claimLock = new Object();
+  private final long[] values;
+  private final boolean[] present;
+  private final int window;
+  private final LongConsumer sink;
+  private long nextClaim;
+
+  // protegidos por el monitor de this
+  private long next; // siguiente secuencia a entregar
+  private int pending; // completados esperando a uno anterior
+  private int maxPending;
+  private long pendingSum;
+  private long completions;
+  private long stalls;
+  private long stallNanos;
+
+  public Resequencer(int window, LongConsumer sink) {
+    if (window <= 0)
+      throw new IllegalArgumentException("window must be > 0");
+    this.window = window;
+    this.values = new long[window];
+    this.present = new boolean[window];
+    this.sink = sink;
+  }
+
+  /**
+   * Saca un elemento de {@code queue} y le asigna secuencia en el mismo paso.
+   *
+   * @param item recibe el valor (arreglo de un elemento del consumidor, para no asignar)
+   * @return secuencia a pasar a {@link #complete}
+   */
+  public long claim(WorkQueue<Long> queue, long[] item) throws InterruptedException {
+    synchronized (claimLock) { // un solo consumidor numera a la vez; no bloquea a complete()
+      item[0] = queue instanceof LongWorkQueue lq ? lq.takeLong() : queue.take();
+      return nextClaim++;
+    }
+  }
+
+  /** Marca {@code seq} como procesado y entrega en orden todo lo que quedó listo. */
+  public synchronized void complete(long seq, long value) throws InterruptedException {
+    if (seq - next >= window) {
+      stalls++;
+      long t0 = System.nanoTime();
+      try {
+        while (seq - next >= window)
+          this.wait(); // la ventana está llena: espera a que se entregue lo anterior
+      } finally {
+        stallNanos += System.nanoTime() - t0;
+      }
+    }
+    int idx = (int) (seq % window);
+    values[idx] = value;
+    present[idx] = true;
+    pending++;
+    if (seq == next) {
+      int i = idx;
+      while (present[i]) {
+        present[i] = false;
+        pending--;
+        next++;
+        sink.accept(values[i]);
+        if (++i == window)
+          i = 0;
+      }
+      this.notifyAll(); // la ventana avanzó
+    }
+    maxPending = Math.max(maxPending, pending); // ocupación tras entregar: lo que quedó esperando
+    pendingSum += pending;
+    completions++;
+  }
+
+  /** Resumen: ventana, ocupación media/máxima, esperas y tiempo total esperando. */
+  public synchronized String summary() {
+    return String.format("window=%d emitted=%d occupancy(avg=%.1f max=%d) stalls=%d stallTime=%dms",
+        window, next, completions == 0 ? 0.0 : (double) pendingSum / completions, maxPending,
+        stalls, stallNanos / 1_000_000);
+  }
+}
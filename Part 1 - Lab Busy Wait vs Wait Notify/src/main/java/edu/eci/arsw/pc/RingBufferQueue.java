@@ -0,0 +1,176 @@
+package edu.eci.arsw.pc;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cola lock-free sobre un arreglo circular pre-dimensionado (esquema de
+ * secuencias por celda, estilo Vyukov/Disruptor).
+ *
+ * <p>Cada celda guarda una secuencia que indica si está libre para el
+ * productor de la vuelta actual o lista para el consumidor. Los contadores
+ * {@code tail} (productores) y {@code head} (consumidores) viven en líneas de
+ * caché distintas para evitar false sharing. Con {@code singleProducer=true}
+ * el productor reclama celdas sin CAS. Lleno o vacío, el hilo espera según
+ * la {@link WaitStrategy} (giro puro por defecto).
+ *
+ * <p>La capacidad tiene que ser potencia de dos (se indexa con máscara). No
+ * se redondea: así una corrida {@code ring} usa la misma capacidad que las
+ * demás colas a las que se compara.
+ */
+public final class RingBufferQueue<T> implements WorkQueue<T> {
+  /** Separación (en longs) entre contadores: 128 bytes cubre 1-2 líneas de caché. */
+  private static final int PAD = 16;
+  private static final int TAIL = PAD;
+  private static final int HEAD = 2 * PAD;
+  /** Mayor potencia de dos que cabe en un {@code int}. */
+  static final int MAX_CAPACITY = 1 << 30;
+
+  private final Object[] items;
+  private final AtomicLongArray sequences;
+  private final AtomicLongArray counters = new AtomicLongArray(3 * PAD);
+  private final int mask;
+  private final boolean singleProducer;
+  private final WaitStrategy wait;
+
+  public RingBufferQueue(int capacity) {
+    this(capacity, false);
+  }
+
+  public RingBufferQueue(int capacity, boolean singleProducer) {
+    this(capacity, singleProducer, WaitStrategy.busySpin());
+  }
+
+  public RingBufferQueue(int capacity, boolean singleProducer, WaitStrategy wait) {
+    if (capacity <= 0 || capacity > MAX_CAPACITY)
+      throw new IllegalArgumentException("capacity out of range: " + capacity);
+    if (Integer.bitCount(capacity) != 1)
+      throw new IllegalArgumentException("ring capacity must be a power of two, got " + capacity
+          + " (nearest: " + Integer.highestOneBit(capacity) + " or " + (Integer.highestOneBit(capacity) << 1) + ")");
+    this.items = new Object[capacity];
+    this.sequences = new AtomicLongArray(capacity);
+    for (int i = 0; i < capacity; i++)
+      sequences.set(i, i);
+    this.mask = capacity - 1; // potencia de dos: indexar con máscara
+    this.singleProducer = singleProducer;
+    this.wait = wait;
+  }
+
+  /** Intenta encolar sin bloquear; retorna false si el buffer está lleno. */
+  public boolean offer(T item) {
+    if (item == null)
+      throw new NullPointerException("item");
+    long pos = counters.get(TAIL);
+    while (true) {
+      int idx = (int) (pos & mask);
+      long diff = sequences.getAcquire(idx) - pos;
+      if (diff == 0) {
+        if (singleProducer) {
+          counters.setRelease(TAIL, pos + 1);
+          break;
+        }
+        if (counters.weakCompareAndSetVolatile(TAIL, pos, pos + 1))
+          break;
+        pos = counters.get(TAIL);
+      } else if (diff < 0) {
+        return false; // la celda aún no ha sido consumida: lleno
+      } else {
+        pos = counters.get(TAIL); // otro productor avanzó
+      }
+    }
+    int idx = (int) (pos & mask);
+    items[idx] = item;
+    sequences.setRelease(idx, pos + 1);
+    return true;
+  }
+
+  /** Intenta desencolar sin bloquear; retorna null si el buffer está vacío. */
+  @SuppressWarnings("unchecked")
+  public T poll() {
+    long pos = counters.get(HEAD);
+    while (true) {
+      int idx = (int) (pos & mask);
+      long diff = sequences.getAcquire(idx) - (pos + 1);
+      if (diff == 0) {
+        if (counters.weakCompareAndSetVolatile(HEAD, pos, pos + 1))
+          break;
+        pos = counters.get(HEAD);
+      } else if (diff < 0) {
+        return null; // la celda aún no ha sido publicada: vacío
+      } else {
+        pos = counters.get(HEAD); // otro consumidor avanzó
+      }
+    }
+    int idx = (int) (pos & mask);
+    T v = (T) items[idx];
+    items[idx] = null;
+    sequences.setRelease(idx, pos + mask + 1);
+    return v;
+  }
+
+  /** Reintenta {@link #offer(Object)} con la estrategia de espera hasta {@code timeout}. */
+  @Override
+  public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    int attempt = 0;
+    while (!offer(item)) {
+      if (System.nanoTime() - deadline >= 0)
+        return false;
+      if (Thread.interrupted())
+        throw new InterruptedException();
+      wait.idle(attempt++);
+    }
+    return true;
+  }
+
+  /** Reintenta {@link #poll()} con la estrategia de espera hasta {@code timeout}. */
+  @Override
+  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    int attempt = 0;
+    T v;
+    while ((v = poll()) == null) {
+      if (System.nanoTime() - deadline >= 0)
+        return null;
+      if (Thread.interrupted())
+        throw new InterruptedException();
+      wait.idle(attempt++);
+    }
+    return v;
+  }
+
+  @Override
+  public void put(T item) throws InterruptedException {
+    int attempt = 0;
+    while (!offer(item)) {
+      if (Thread.interrupted())
+        throw new InterruptedException();
+      wait.idle(attempt++);
+    }
+  }
+
+  @Override
+  public T take() throws InterruptedException {
+    int attempt = 0;
+    while (true) {
+      T v = poll();
+      if (v != null)
+        return v;
+      if (Thread.interrupted())
+        throw new InterruptedException();
+      wait.idle(attempt++);
+    }
+  }
+
+  @Override
+  public int size() {
+    long head = counters.get(HEAD);
+    long tail = counters.get(TAIL);
+    return (int) Math.max(0, Math.min(tail - head, items.length));
+  }
+
+  @Override
+  public int capacity() {
+    return items.length;
+  }
+}
@@ -0,0 +1,53 @@
+package edu.eci.arsw.pc;
+
+/**
+ * Parámetros de una corrida de productor/consumidor.
+ *
+ * @param mode           nombre de la cola ({@link WorkQueues#NAMES})
+ * @param waitStrategy   estrategia de espera para {@code spin}/{@code ring} ({@link WaitStrategy#NAMES})
+ * @param virtualThreads true: un hilo virtual por trabajador; false: hilos de plataforma
+ *                       (necesario para medir CPU por hilo con {@code ThreadMXBean})
+ * @param reorderWindow  &gt; 0: los consumidores entregan en el orden de la cola a
+ *                       través de un {@link Resequencer} con esa ventana; 0: sin orden
+ * @param flow           true: productores y consumidores son {@code Flow.Publisher}/{@code Subscriber}
+ *                       con demanda ({@link StampPublisher}, {@link QueuePublisher})
+ * @param burst          perfil de ráfagas de los productores; null: ritmo constante
+ */
+public record RunConfig(String mode, int producers, int consumers, int capacity,
+    long prodDelayMs, long consDelayMs, long durationMs, int batch, long lingerMs,
+    String waitStrategy, boolean virtualThreads, int reorderWindow, boolean flow, BurstProfile burst) {
+
+  /** Lee la configuración de las propiedades de sistema de {@link PCApp}. */
+  public static RunConfig fromSystemProperties() {
+    String mode = System.getProperty("mode", "monitor");
+    if (Boolean.getBoolean("primitive")) // equivalente a -Dmode=long
+      mode = "long";
+    return new RunConfig(
+        mode,
+        Integer.getInteger("producers", 1),
+        Integer.getInteger("consumers", 1),
+        Integer.getInteger("capacity", 16),
+        Long.getLong("prodDelayMs", 10L),
+        Long.getLong("consDelayMs", 10L),
+        Integer.getInteger("durationSec", 20) * 1000L,
+        Integer.getInteger("batch", 1),
+        Long.getLong("lingerMs", 5L),
+        System.getProperty("wait", "spin"),
+        !"platform".equalsIgnoreCase(System.getProperty("threads", "virtual")),
+        Integer.getInteger("reorderWindow", 0),
+        Boolean.getBoolean("flow"),
+        BurstProfile.parse(System.getProperty("burst")));
+  }
+
+  /** Copia con otra duración (para calentamiento y repeticiones). */
+  public RunConfig withDurationMs(long millis) {
+    return new RunConfig(mode, producers, consumers, capacity, prodDelayMs, consDelayMs,
+        millis, batch, lingerMs, waitStrategy, virtualThreads, reorderWindow, flow, burst);
+  }
+
+  /** Copia con otra cola y capacidad (para comparar implementaciones con la misma carga). */
+  public RunConfig withQueue(String mode, int capacity) {
+    return new RunConfig(mode, producers, consumers, capacity, prodDelayMs, consDelayMs,
+        durationMs, batch, lingerMs, waitStrategy, virtualThreads, reorderWindow, flow, burst);
+  }
+}
@@ -0,0 +1,39 @@
+package edu.eci.arsw.pc;
+
+/**
+ * Resultado de una corrida de {@link PCRunner}.
+ *
+ * @param producerCpuNanos CPU sumada de los productores; -1 con hilos virtuales
+ * @param consumerCpuNanos CPU sumada de los consumidores; -1 con hilos virtuales
+ * @param avgOccupancy     tamaño medio de la cola, muestreado cada {@link PCRunner#SAMPLE_MS} ms
+ * @param maxOccupancy     tamaño máximo observado en el muestreo
+ * @param reorder          resequencer de la corrida; null si no fue ordenada
+ * @param conflated        elementos reemplazados por uno más nuevo de su clave ({@code conflate})
+ * @param elastic          resumen de {@link ElasticBoundedBuffer#summary()}; null con otras colas
+ * @param shutdown         cómo terminó el apagado (drenaje, descartes, latencia)
+ */
+public record RunResult(RunConfig config, long produced, long consumed, int queueSizeAtEnd,
+    long elapsedNanos, ProcessStats cost, LatencyHistogram residence, LatencyHistogram endToEnd,
+    long producerCpuNanos, long consumerCpuNanos, double avgOccupancy, int maxOccupancy,
+    Resequencer reorder, long conflated, String elastic, ShutdownReport shutdown) {
+
+  /** Elementos consumidos por segundo. */
+  public double throughput() {
+    return elapsedNanos == 0 ? 0 : consumed * 1e9 / elapsedNanos;
+  }
+
+  /** Elementos producidos por segundo (lo que importa si sólo corrió el lado productor). */
+  public double producedPerSecond() {
+    return elapsedNanos == 0 ? 0 : produced * 1e9 / elapsedNanos;
+  }
+
+  /** CPU media por productor en ms; -1 si no se pudo medir o no hubo productores (roles IPC). */
+  public double producerCpuMsPerThread() {
+    return producerCpuNanos < 0 || config.producers() == 0 ? -1 : producerCpuNanos / 1e6 / config.producers();
+  }
+
+  /** CPU media por consumidor en ms; -1 si no se pudo medir o no hubo consumidores (roles IPC). */
+  public double consumerCpuMsPerThread() {
+    return consumerCpuNanos < 0 || config.consumers() == 0 ? -1 : consumerCpuNanos / 1e6 / config.consumers();
+  }
+}
@@ -0,0 +1,66 @@
+package edu.eci.arsw.pc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Escalamiento con el número de consumidores ({@code -Dscale=true}): corre
+ * cada modo de {@code -Dscale.modes} con 1, 2, 4, ... consumidores hasta el
+ * doble de los núcleos, más los núcleos y 4× los núcleos (o la lista de
+ * {@code -Dscale.consumers}), e imprime una tabla de throughput. El resto de
+ * parámetros sale de {@link RunConfig}.
+ */
+public final class Scaling {
+  private Scaling() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    RunConfig base = RunConfig.fromSystemProperties();
+    List<String> modes = Arrays.stream(System.getProperty("scale.modes", "monitor,sharded").split(","))
+        .map(String::trim).filter(s -> !s.isEmpty()).toList();
+    List<Integer> counts = consumerCounts();
+    long durationMs = Long.getLong("scale.durationSec", 3L) * 1000;
+
+    System.out.printf("Scaling producers=%d capacity=%d prodDelay=%dms consDelay=%dms duration=%ds cores=%d%n",
+        base.producers(), base.capacity(), base.prodDelayMs(), base.consDelayMs(), durationMs / 1000,
+        Runtime.getRuntime().availableProcessors());
+    StringBuilder header = new StringBuilder(String.format("%-10s", "consumers"));
+    for (String mode : modes)
+      header.append(String.format("%16s", mode));
+    System.out.println(header);
+
+    for (String mode : modes) // calentamiento descartado
+      PCRunner.run(with(base, mode, counts.get(0), 1000));
+    for (int consumers : counts) {
+      StringBuilder line = new StringBuilder(String.format("%-10d", consumers));
+      for (String mode : modes) {
+        RunResult r = PCRunner.run(with(base, mode, consumers, durationMs));
+        line.append(String.format("%14.0f/s", r.throughput()));
+      }
+      System.out.println(line);
+    }
+  }
+
+  private static RunConfig with(RunConfig c, String mode, int consumers, long durationMs) {
+    return new RunConfig(mode, c.producers(), consumers, c.capacity(), c.prodDelayMs(), c.consDelayMs(),
+        durationMs, c.batch(), c.lingerMs(), c.waitStrategy(), c.virtualThreads(), c.reorderWindow(),
+        c.flow(), c.burst());
+  }
+
+  private static List<Integer> consumerCounts() {
+    String list = System.getProperty("scale.consumers");
+    if (list != null)
+      return Arrays.stream(list.split(",")).map(String::trim).filter(s -> !s.isEmpty())
+          .map(Integer::parseInt).toList();
+    int cores = Runtime.getRuntime().availableProcessors();
+    TreeSet<Integer> counts = new TreeSet<>();
+    for (int c = 1; c <= 2 * cores; c <<= 1)
+      counts.add(c);
+    counts.add(cores);
+    counts.add(2 * cores);
+    counts.add(4 * cores); // bien por encima de los núcleos
+    return new ArrayList<>(counts);
+  }
+}
@@ -0,0 +1,227 @@
+package edu.eci.arsw.pc;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffer repartido en {@code shards} colas acotadas, cada una con su propio
+ * lock, para que los consumidores no compitan todos por el mismo monitor.
+ *
+ * <p>Cada hilo consumidor recibe, la primera vez que saca, una cola "propia"
+ * (en turno rotatorio); con tantas colas como consumidores cada uno tiene la
+ * suya. Si la propia está vacía, roba el elemento más antiguo de otra; si no
+ * encuentra nada, espera en la propia un tiempo acotado y vuelve a intentar
+ * (así ve lo que llegó a colas sin dueño).
+ *
+ * <p>Los productores reparten en turno rotatorio (cada hilo con su propio
+ * cursor, sin contador compartido) y, si la cola elegida está llena, prueban
+ * las siguientes. Con {@link Placement#HASH} cada elemento va siempre a la
+ * cola de su hash y sólo espera por ella.
+ */
+public final class ShardedQueue<T> implements WorkQueue<T> {
+  /** Cómo eligen cola los productores. */
+  public enum Placement {
+    ROUND_ROBIN, HASH
+  }
+
+  /** Espera máxima en la cola propia antes de volver a buscar qué robar. */
+  private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final Shard<T>[] shards;
+  private final Placement placement;
+  private final int capacity;
+  private final AtomicInteger nextHome = new AtomicInteger();
+  private final ThreadLocal<int[]> home = ThreadLocal.withInitial(() -> new int[] { -1 });
+  private final ThreadLocal<int[]> cursor;
+
+  @SuppressWarnings("unchecked")
+  public ShardedQueue(int capacity, int shards, Placement placement) {
+    if (capacity <= 0)
+      throw new IllegalArgumentException("capacity must be > 0");
+    if (shards <= 0)
+      throw new IllegalArgumentException("shards must be > 0");
+    int n = Math.min(shards, capacity);
+    this.shards = (Shard<T>[]) new Shard<?>[n];
+    int base = capacity / n;
+    for (int i = 0; i < n; i++)
+      this.shards[i] = new Shard<>(base + (i < capacity % n ? 1 : 0)); // la suma da capacity
+    this.placement = placement;
+    this.capacity = capacity;
+    AtomicInteger starts = new AtomicInteger();
+    this.cursor = ThreadLocal.withInitial(() -> new int[] { starts.getAndIncrement() % n });
+  }
+
+  /** Número de colas (puede ser menor que el pedido si la capacidad no alcanza). */
+  public int shards() {
+    return shards.length;
+  }
+
+  @Override
+  public void put(T item) throws InterruptedException {
+    int target = target(item);
+    while (!tryPut(item, target))
+      shards[target].awaitNotFull(IDLE_NANOS);
+  }
+
+  @Override
+  public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    int target = target(item);
+    while (!tryPut(item, target)) {
+      long nanos = deadline - System.nanoTime();
+      if (nanos <= 0)
+        return false;
+      shards[target].awaitNotFull(Math.min(nanos, IDLE_NANOS));
+    }
+    return true;
+  }
+
+  @Override
+  public T take() throws InterruptedException {
+    int own = home();
+    T v;
+    while ((v = tryTake(own)) == null)
+      shards[own].awaitNotEmpty(IDLE_NANOS);
+    return v;
+  }
+
+  @Override
+  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    int own = home();
+    T v;
+    while ((v = tryTake(own)) == null) {
+      long nanos = deadline - System.nanoTime();
+      if (nanos <= 0)
+        return null;
+      shards[own].awaitNotEmpty(Math.min(nanos, IDLE_NANOS));
+    }
+    return v;
+  }
+
+  @Override
+  public int size() {
+    int n = 0;
+    for (Shard<T> s : shards)
+      n += s.size;
+    return n;
+  }
+
+  @Override
+  public int capacity() {
+    return capacity;
+  }
+
+  private int target(T item) {
+    if (placement == Placement.HASH) {
+      if (item == null)
+        throw new NullPointerException("item");
+      return Math.floorMod(item.hashCode() * 0x9E3779B9, shards.length); // mezcla hashes consecutivos
+    }
+    int[] c = cursor.get();
+    int t = c[0];
+    c[0] = t + 1 == shards.length ? 0 : t + 1;
+    return t;
+  }
+
+  private boolean tryPut(T item, int target) {
+    if (shards[target].offer(item))
+      return true;
+    if (placement == Placement.HASH)
+      return false;
+    for (int i = 1; i < shards.length; i++) {
+      int s = target + i;
+      if (s >= shards.length)
+        s -= shards.length;
+      if (shards[s].offer(item))
+        return true;
+    }
+    return false;
+  }
+
+  private T tryTake(int own) {
+    T v = shards[own].poll();
+    if (v != null)
+      return v;
+    for (int i = 1; i < shards.length; i++) { // robo: primero mira sin lock si hay algo
+      int s = own + i;
+      if (s >= shards.length)
+        s -= shards.length;
+      if (shards[s].size > 0 && (v = shards[s].poll()) != null)
+        return v;
+    }
+    return null;
+  }
+
+  private int home() {
+    int[] h = home.get();
+    if (h[0] < 0)
+      h[0] = nextHome.getAndIncrement() % shards.length;
+    return h[0];
+  }
+
+  private static final class Shard<T> {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final ArrayDeque<T> items;
+    private final int capacity;
+    private volatile int size; // se escribe bajo el lock; se lee sin él para decidir si robar
+
+    Shard(int capacity) {
+      this.capacity = capacity;
+      this.items = new ArrayDeque<>(capacity);
+    }
+
+    boolean offer(T item) {
+      lock.lock();
+      try {
+        if (size == capacity)
+          return false;
+        items.addLast(item);
+        size++;
+        notEmpty.signal();
+        return true;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    T poll() {
+      lock.lock();
+      try {
+        T v = items.pollFirst();
+        if (v != null) {
+          size--;
+          notFull.signal();
+        }
+        return v;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void awaitNotEmpty(long nanos) throws InterruptedException {
+      lock.lockInterruptibly();
+      try {
+        if (size == 0)
+          notEmpty.awaitNanos(nanos);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    void awaitNotFull(long nanos) throws InterruptedException {
+      lock.lockInterruptibly();
+      try {
+        if (size == capacity)
+          notFull.awaitNanos(nanos);
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+}
@@ -0,0 +1,201 @@
+package edu.eci.arsw.pc;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Anillo de {@code long} de un productor y un consumidor (SPSC) sobre un
+ * archivo mapeado en memoria, para pasar elementos entre dos JVM del mismo
+ * equipo sin broker ni sockets: ambos procesos mapean el mismo archivo y ven
+ * las mismas páginas.
+ *
+ * <p>Cabecera: palabra mágica y capacidad, {@code tail} (sólo lo escribe el
+ * productor) y {@code head} (sólo lo escribe el consumidor), cada uno en su
+ * propia línea de caché. El productor escribe el valor y publica
+ * {@code tail} con {@code setRelease}; el consumidor lo lee con
+ * {@code getAcquire}, así que ve el valor ya escrito (y viceversa con
+ * {@code head}). Cada lado guarda una copia local del contador del otro y
+ * sólo la relee cuando parece lleno/vacío.
+ *
+ * <p>No hay monitor compartido entre procesos: lleno o vacío, el hilo espera
+ * según la {@link WaitStrategy}. Sólo un hilo puede producir y sólo uno
+ * consumir.
+ */
+public final class SharedMemoryRing implements LongWorkQueue, Closeable {
+  private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+  private static final long MAGIC = 0x5043_5249_4E47_0001L; // "PCRING" v1
+  private static final long INITIALIZING = -1;
+  private static final int LINE = 64;
+  private static final int MAGIC_AT = 0;
+  private static final int CAPACITY_AT = 8;
+  private static final int TAIL_AT = LINE;
+  private static final int HEAD_AT = 2 * LINE;
+  private static final int DATA_AT = 3 * LINE;
+
+  private final Path file;
+  private final MappedByteBuffer buf;
+  private final int capacity;
+  private final int mask;
+  private final WaitStrategy wait;
+
+  // copias locales: cada una la usa un solo hilo (el productor o el consumidor)
+  private long tail;
+  private long cachedHead;
+  private long head;
+  private long cachedTail;
+
+  /**
+   * Mapea (o crea e inicializa) el anillo en {@code file}. El primer proceso
+   * que llega lo inicializa; el otro espera a que la cabecera esté lista y
+   * verifica que la capacidad coincida. Si el archivo ya existía se
+   * continúa desde sus contadores.
+   *
+   * @param capacity se redondea a potencia de dos
+   */
+  public SharedMemoryRing(Path file, int capacity, WaitStrategy wait) throws IOException {
+    if (capacity <= 0 || capacity > (Integer.MAX_VALUE - DATA_AT) / Long.BYTES)
+      throw new IllegalArgumentException("capacity out of range: " + capacity);
+    int size = 1;
+    while (size < capacity)
+      size <<= 1; // potencia de dos para indexar con máscara
+    this.file = file;
+    this.wait = wait;
+    try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE)) {
+      this.buf = ch.map(FileChannel.MapMode.READ_WRITE, 0, DATA_AT + (long) size * Long.BYTES);
+    }
+    if (LONGS.compareAndSet(buf, MAGIC_AT, 0L, INITIALIZING)) {
+      LONGS.set(buf, CAPACITY_AT, (long) size);
+      LONGS.setRelease(buf, MAGIC_AT, MAGIC);
+    }
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    long magic;
+    while ((magic = (long) LONGS.getAcquire(buf, MAGIC_AT)) == INITIALIZING) {
+      if (System.nanoTime() - deadline >= 0)
+        throw new IOException("timed out waiting for another process to initialize " + file);
+      Thread.onSpinWait();
+    }
+    if (magic != MAGIC)
+      throw new IOException(file + " is not a ring file (magic=" + Long.toHexString(magic) + ")");
+    long stored = (long) LONGS.get(buf, CAPACITY_AT);
+    if (stored != size)
+      throw new IOException(file + " has capacity " + stored + ", not " + size);
+    this.capacity = size;
+    this.mask = size - 1;
+    this.tail = (long) LONGS.getAcquire(buf, TAIL_AT);
+    this.head = (long) LONGS.getAcquire(buf, HEAD_AT);
+    this.cachedHead = head;
+    this.cachedTail = tail;
+  }
+
+  /** Intenta encolar sin esperar; sólo desde el hilo productor. */
+  public boolean offerLong(long item) {
+    if (tail - cachedHead == capacity) {
+      cachedHead = (long) LONGS.getAcquire(buf, HEAD_AT);
+      if (tail - cachedHead == capacity)
+        return false;
+    }
+    LONGS.set(buf, offsetOf(tail), item);
+    LONGS.setRelease(buf, TAIL_AT, ++tail); // publica el valor
+    return true;
+  }
+
+  /** true si hay un elemento publicado; sólo desde el hilo consumidor. */
+  private boolean canTake() {
+    if (head == cachedTail) {
+      cachedTail = (long) LONGS.getAcquire(buf, TAIL_AT);
+      return head != cachedTail;
+    }
+    return true;
+  }
+
+  private long removeLong() {
+    long v = (long) LONGS.get(buf, offsetOf(head));
+    LONGS.setRelease(buf, HEAD_AT, ++head); // libera la celda
+    return v;
+  }
+
+  private int offsetOf(long seq) {
+    return DATA_AT + (int) (seq & mask) * Long.BYTES;
+  }
+
+  @Override
+  public void putLong(long item) throws InterruptedException {
+    int attempt = 0;
+    while (!offerLong(item)) {
+      if (Thread.interrupted())
+        throw new InterruptedException();
+      wait.idle(attempt++);
+    }
+  }
+
+  @Override
+  public long takeLong() throws InterruptedException {
+    int attempt = 0;
+    while (!canTake()) {
+      if (Thread.interrupted())
+        throw new InterruptedException();
+      wait.idle(attempt++);
+    }
+    return removeLong();
+  }
+
+  @Override
+  public boolean offer(Long item, long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    int attempt = 0;
+    while (!offerLong(item)) {
+      if (System.nanoTime() - deadline >= 0)
+        return false;
+      if (Thread.interrupted())
+        throw new InterruptedException();
+      wait.idle(attempt++);
+    }
+    return true;
+  }
+
+  @Override
+  public Long poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    int attempt = 0;
+    while (!canTake()) {
+      if (System.nanoTime() - deadline >= 0)
+        return null;
+      if (Thread.interrupted())
+        throw new InterruptedException();
+      wait.idle(attempt++);
+    }
+    return removeLong();
+  }
+
+  /** Elementos publicados y no consumidos, leídos de la memoria compartida. */
+  @Override
+  public int size() {
+    long h = (long) LONGS.getAcquire(buf, HEAD_AT);
+    long t = (long) LONGS.getAcquire(buf, TAIL_AT);
+    return (int) Math.max(0, Math.min(t - h, capacity));
+  }
+
+  @Override
+  public int capacity() {
+    return capacity;
+  }
+
+  public Path file() {
+    return file;
+  }
+
+  /** Lleva los contadores y datos a disco; el archivo sigue siendo válido para reabrirlo. */
+  @Override
+  public void close() {
+    buf.force();
+  }
+}
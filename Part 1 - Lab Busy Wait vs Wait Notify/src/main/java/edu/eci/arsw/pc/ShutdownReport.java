@@ -0,0 +1,25 @@
+package edu.eci.arsw.pc;
+
+/**
+ * Cómo terminó el apagado de una corrida de {@link PCRunner}.
+ *
+ * @param latencyNanos desde que se pidió parar hasta que terminaron todos los hilos
+ * @param drained      elementos consumidos durante el apagado
+ * @param dropped      elementos que quedaron en una cola en memoria y se perdieron
+ * @param persisted    elementos que quedaron en una cola persistente
+ *                     ({@link MappedLongQueue}): se retoman al reabrirla
+ * @param inFlight     sacados de la cola pero interrumpidos antes de terminar de
+ *                     procesarse; -1 si la corrida no tenía ambos lados (ver {@link IpcRoles})
+ * @param deadlineMs   plazo de drenaje ({@code -Dshutdown.drainMs})
+ * @param closed       true si la cola tiene estado cerrado y despertó a los que
+ *                     esperaban; false si hubo que interrumpirlos
+ */
+public record ShutdownReport(long latencyNanos, long drained, long dropped, long persisted, long inFlight,
+    long deadlineMs, boolean closed) {
+
+  public String summary() {
+    return String.format("latency=%dms drained=%d dropped=%d persisted=%d inFlight=%s deadline=%dms wake=%s",
+        latencyNanos / 1_000_000, drained, dropped, persisted, inFlight < 0 ? "n/a" : Long.toString(inFlight),
+        deadlineMs, closed ? "close" : "interrupt");
+  }
+}
@@ -0,0 +1,281 @@
+package edu.eci.arsw.pc;
+
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.ToDoubleFunction;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Corrida larga ({@code -Dsoak=true}) de cualquier modo para encontrar
+ * degradación gradual. Corre {@link PCRunner} durante
+ * {@code -Dsoak.durationMin} (60) y cada {@code -Dsoak.intervalSec} (10)
+ * toma una muestra: throughput del intervalo (leído del MBean de
+ * {@link LiveMetrics}), heap tras el último GC, heap usado, hilos vivos y
+ * GCs. Cada muestra va en el momento a {@code <soak.out>.csv}, así que el
+ * archivo sirve aunque la corrida se corte.
+ *
+ * <p>Al final ajusta una recta por mínimos cuadrados a cada serie (sin el
+ * calentamiento, {@code -Dsoak.warmupSec}) y marca la deriva si la pendiente
+ * es significativa (|t| &gt; {@value #T_CRITICAL}, ~95%) y el cambio a lo
+ * largo de la corrida supera el umbral: caída de throughput mayor a
+ * {@code -Dsoak.maxDecayPercent} (5), crecimiento del heap tras GC mayor a
+ * {@code -Dsoak.maxHeapGrowthPercent} (10), o cualquier aumento sostenido de
+ * hilos.
+ */
+public final class Soak {
+  static final double T_CRITICAL = 2.0;
+  private static final int MIN_SAMPLES = 10;
+  private static final String[] COLUMNS = {
+      "tSec", "produced", "consumed", "throughputPerSec", "queueSize", "blockedProducers", "blockedConsumers",
+      "heapAfterGcKB", "heapUsedKB", "threads", "gcCount" };
+
+  private Soak() {
+  }
+
+  /** Una muestra de la serie. {@code heapAfterGc} es -1 hasta el primer GC. */
+  private record Sample(double tSec, long produced, long consumed, double throughput, int queueSize,
+      int blockedProducers, int blockedConsumers, long heapAfterGc, long heapUsed, int threads, long gcCount) {
+  }
+
+  /**
+   * Recta {@code y = intercept + slope·x} y el estadístico t de la pendiente,
+   * con el error corregido por la autocorrelación (lag 1) de los residuos.
+   */
+  private record Trend(double slope, double intercept, double t, int n) {
+
+    static Trend fit(double[] x, double[] y) {
+      int n = x.length;
+      if (n < 3)
+        return new Trend(0, n == 0 ? 0 : y[0], 0, n);
+      double mx = 0;
+      double my = 0;
+      for (int i = 0; i < n; i++) {
+        mx += x[i];
+        my += y[i];
+      }
+      mx /= n;
+      my /= n;
+      double sxx = 0;
+      double sxy = 0;
+      for (int i = 0; i < n; i++) {
+        sxx += (x[i] - mx) * (x[i] - mx);
+        sxy += (x[i] - mx) * (y[i] - my);
+      }
+      if (sxx == 0)
+        return new Trend(0, my, 0, n);
+      double slope = sxy / sxx;
+      double intercept = my - slope * mx;
+      double sse = 0;
+      double lag = 0; // autocovarianza de residuos consecutivos
+      double prev = 0;
+      for (int i = 0; i < n; i++) {
+        double r = y[i] - (intercept + slope * x[i]);
+        sse += r * r;
+        if (i > 0)
+          lag += r * prev;
+        prev = r;
+      }
+      double se = Math.sqrt(sse / (n - 2) / sxx);
+      // muestras consecutivas no son independientes: con autocorrelación
+      // positiva hay menos información de la que parece y se agranda el error
+      double rho = sse == 0 ? 0 : Math.max(0, Math.min(0.99, lag / sse));
+      se *= Math.sqrt((1 + rho) / (1 - rho));
+      double t = se == 0 ? (slope == 0 ? 0 : Math.copySign(Double.POSITIVE_INFINITY, slope)) : slope / se;
+      return new Trend(slope, intercept, t, n);
+    }
+
+    /** Cambio a lo largo de {@code [from, to]} relativo al valor ajustado en {@code from}, en %. */
+    double percentChange(double from, double to) {
+      double start = intercept + slope * from;
+      return start == 0 ? 0 : 100.0 * slope * (to - from) / Math.abs(start);
+    }
+
+    boolean significant() {
+      return n >= MIN_SAMPLES && Math.abs(t) > T_CRITICAL;
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    RunConfig base = RunConfig.fromSystemProperties();
+    long durationMs = Long.getLong("soak.durationMin", 60L) * 60_000;
+    long intervalMs = Long.getLong("soak.intervalSec", 10L) * 1000;
+    long warmupMs = Long.getLong("soak.warmupSec", 60L) * 1000;
+    double maxDecay = Double.parseDouble(System.getProperty("soak.maxDecayPercent", "5"));
+    double maxHeapGrowth = Double.parseDouble(System.getProperty("soak.maxHeapGrowthPercent", "10"));
+    Path out = Path.of(System.getProperty("soak.out", "soak") + ".csv");
+    RunConfig cfg = base.withDurationMs(durationMs);
+
+    System.out.printf("Soak mode=%s producers=%d consumers=%d capacity=%d prodDelay=%dms consDelay=%dms duration=%dmin interval=%ds warmup=%ds -> %s%n",
+        cfg.mode(), cfg.producers(), cfg.consumers(), cfg.capacity(), cfg.prodDelayMs(), cfg.consDelayMs(),
+        durationMs / 60_000, intervalMs / 1000, warmupMs / 1000, out);
+
+    FutureTask<RunResult> run = new FutureTask<>(() -> PCRunner.run(cfg));
+    Thread runner = Thread.ofPlatform().name("soak-run").start(run);
+    LiveMetricsMXBean live = awaitLiveMetrics(run);
+
+    List<Sample> samples = new ArrayList<>();
+    try (PrintWriter w = new PrintWriter(Files.newBufferedWriter(out))) {
+      w.println(String.join(",", COLUMNS));
+      long start = System.nanoTime();
+      long lastNanos = start;
+      long lastCount = live == null ? 0 : count(cfg, live); // lo contado antes de la ventana no entra en la primera tasa
+      long next = start + intervalMs * 1_000_000L;
+      while (live != null && !run.isDone()) {
+        long sleep = (next - System.nanoTime()) / 1_000_000L;
+        if (sleep > 0) {
+          runner.join(sleep);
+          if (run.isDone())
+            break;
+        }
+        next += intervalMs * 1_000_000L;
+        long now = System.nanoTime();
+        long produced = live.getProduced();
+        long consumed = live.getConsumed();
+        long count = cfg.consumers() > 0 ? consumed : produced;
+        Sample s = new Sample((now - start) / 1e9, produced, consumed, (count - lastCount) * 1e9 / (now - lastNanos),
+            live.getQueueSize(), live.getBlockedProducers(), live.getBlockedConsumers(),
+            heapAfterGc(), ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(),
+            ManagementFactory.getThreadMXBean().getThreadCount(), gcCount());
+        lastNanos = now;
+        lastCount = count;
+        samples.add(s);
+        w.println(csv(s));
+        w.flush();
+        System.out.printf(Locale.ROOT, "soak t=%.0fs throughput=%.0f/s queue=%d heapAfterGc=%s threads=%d%n",
+            s.tSec(), s.throughput(), s.queueSize(),
+            s.heapAfterGc() < 0 ? "n/a" : s.heapAfterGc() / 1024 + "KB", s.threads());
+      }
+    }
+    RunResult r;
+    try {
+      r = run.get();
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("soak run failed", e.getCause());
+    }
+    System.out.printf("Produced=%d Consumed=%d Throughput=%.0f/s %s%n",
+        r.produced(), r.consumed(), r.throughput(), r.cost());
+    System.out.printf("Wrote %d samples to %s%n", samples.size(), out);
+    report(samples, warmupMs / 1000.0, maxDecay, maxHeapGrowth);
+  }
+
+  /** Analiza la serie sin el calentamiento e imprime una línea por métrica y el veredicto. */
+  private static void report(List<Sample> all, double warmupSec, double maxDecay, double maxHeapGrowth) {
+    List<Sample> s = all.stream().filter(x -> x.tSec() >= warmupSec).toList();
+    if (s.size() < MIN_SAMPLES) {
+      System.out.printf("Soak verdict: INCONCLUSIVE (%d samples after warmup, need %d)%n", s.size(), MIN_SAMPLES);
+      return;
+    }
+    double from = s.get(0).tSec();
+    double to = s.get(s.size() - 1).tSec();
+    boolean drift = false;
+
+    Trend tp = fit(s, Sample::throughput);
+    double tpChange = tp.percentChange(from, to);
+    boolean decay = tp.significant() && tp.slope() < 0 && -tpChange > maxDecay;
+    System.out.printf(Locale.ROOT, "Soak throughput slope=%.3f/s per min t=%.2f change=%.1f%% -> %s%n",
+        tp.slope() * 60, tp.t(), tpChange, decay ? "DECAY" : "ok");
+    drift |= decay;
+
+    List<Sample> gc = s.stream().filter(x -> x.heapAfterGc() >= 0).toList();
+    if (gc.size() < MIN_SAMPLES) {
+      System.out.printf("Soak heapAfterGc -> n/a (only %d samples after a GC)%n", gc.size());
+    } else {
+      Trend heap = fit(gc, x -> x.heapAfterGc());
+      double heapChange = heap.percentChange(gc.get(0).tSec(), gc.get(gc.size() - 1).tSec());
+      boolean leak = heap.significant() && heap.slope() > 0 && heapChange > maxHeapGrowth;
+      System.out.printf(Locale.ROOT, "Soak heapAfterGc slope=%.1fKB per min t=%.2f change=%.1f%% -> %s%n",
+          heap.slope() * 60 / 1024, heap.t(), heapChange, leak ? "GROWTH" : "ok");
+      drift |= leak;
+    }
+
+    Trend th = fit(s, x -> x.threads());
+    boolean threadLeak = th.significant() && th.slope() > 0 && s.get(s.size() - 1).threads() > s.get(0).threads();
+    System.out.printf(Locale.ROOT, "Soak threads first=%d last=%d slope=%.3f per min t=%.2f -> %s%n",
+        s.get(0).threads(), s.get(s.size() - 1).threads(), th.slope() * 60, th.t(), threadLeak ? "GROWTH" : "ok");
+    drift |= threadLeak;
+
+    System.out.println("Soak verdict: " + (drift ? "DRIFT" : "STABLE"));
+  }
+
+  private static Trend fit(List<Sample> s, ToDoubleFunction<Sample> y) {
+    double[] xs = new double[s.size()];
+    double[] ys = new double[s.size()];
+    for (int i = 0; i < xs.length; i++) {
+      xs[i] = s.get(i).tSec();
+      ys[i] = y.applyAsDouble(s.get(i));
+    }
+    return Trend.fit(xs, ys);
+  }
+
+  /** Espera a que la corrida registre su MBean; null si terminó antes. */
+  /** Lo que mide el throughput: lo consumido o, en el rol productor ({@link IpcRoles}), lo producido. */
+  private static long count(RunConfig cfg, LiveMetricsMXBean live) {
+    return cfg.consumers() > 0 ? live.getConsumed() : live.getProduced();
+  }
+
+  private static LiveMetricsMXBean awaitLiveMetrics(FutureTask<RunResult> run) throws Exception {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = new ObjectName(LiveMetrics.OBJECT_NAME);
+    while (!server.isRegistered(name)) {
+      if (run.isDone())
+        return null;
+      Thread.sleep(10);
+    }
+    return JMX.newMXBeanProxy(server, name, LiveMetricsMXBean.class);
+  }
+
+  /**
+   * Heap ocupado al terminar el GC más reciente (de cualquier colector),
+   * sumando los pools de heap; -1 si aún no hubo GC o la plataforma no lo expone.
+   */
+  private static long heapAfterGc() {
+    Set<String> heapPools = new HashSet<>();
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+      if (pool.getType() == MemoryType.HEAP)
+        heapPools.add(pool.getName());
+    com.sun.management.GcInfo last = null;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+      if (gc instanceof com.sun.management.GarbageCollectorMXBean sun) {
+        com.sun.management.GcInfo info = sun.getLastGcInfo();
+        if (info != null && (last == null || info.getEndTime() > last.getEndTime()))
+          last = info;
+      }
+    if (last == null)
+      return -1;
+    long sum = 0;
+    for (Map.Entry<String, MemoryUsage> e : last.getMemoryUsageAfterGc().entrySet())
+      if (heapPools.contains(e.getKey()))
+        sum += e.getValue().getUsed();
+    return sum;
+  }
+
+  private static long gcCount() {
+    long n = 0;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+      n += Math.max(0, gc.getCollectionCount());
+    return n;
+  }
+
+  private static String csv(Sample s) {
+    return String.format(Locale.ROOT, "%.1f,%d,%d,%.1f,%d,%d,%d,%d,%d,%d,%d",
+        s.tSec(), s.produced(), s.consumed(), s.throughput(), s.queueSize(), s.blockedProducers(),
+        s.blockedConsumers(), s.heapAfterGc() < 0 ? -1 : s.heapAfterGc() / 1024, s.heapUsed() / 1024,
+        s.threads(), s.gcCount());
+  }
+}
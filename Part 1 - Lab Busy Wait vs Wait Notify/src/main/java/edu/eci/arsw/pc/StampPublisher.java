@@ -0,0 +1,34 @@
+package edu.eci.arsw.pc;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * Productor bajo demanda: emite marcas de tiempo ({@code System.nanoTime()},
+ * como {@link Producer}) sólo cuando el suscriptor las pidió, con
+ * {@code delayMs} entre una y otra. Sin demanda no produce nada ni ocupa un
+ * hilo. Lo producido lo cuenta el suscriptor ({@link QueueSubscriber}) al
+ * encolarlo: un elemento emitido a una suscripción cancelada no cuenta.
+ */
+public final class StampPublisher implements Flow.Publisher<Long> {
+  private final Executor executor;
+  private final long delayMs;
+
+  public StampPublisher(Executor executor, long delayMs) {
+    this.executor = executor;
+    this.delayMs = delayMs;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super Long> subscriber) {
+    subscriber.onSubscribe(new DemandSubscription<Long>(subscriber, executor) {
+      @Override
+      protected long emit(long max) throws InterruptedException {
+        if (delayMs > 0)
+          Thread.sleep(delayMs); // simula trabajo
+        subscriber.onNext(System.nanoTime());
+        return 1;
+      }
+    });
+  }
+}
@@ -0,0 +1,147 @@
+package edu.eci.arsw.pc;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Barrido de parámetros en un solo proceso: recorre la matriz
+ * modo × productores × consumidores × capacidad × retardos, con una corrida
+ * de calentamiento descartada y {@code reps} repeticiones por combinación, y
+ * escribe una fila por repetición en {@code <out>.csv} y {@code <out>.json}.
+ *
+ * <p>Por defecto usa hilos de plataforma ({@code -Dthreads=platform}) porque
+ * {@code ThreadMXBean} no mide la CPU de hilos virtuales.
+ */
+public final class Sweep {
+  private static final String[] COLUMNS = {
+      "mode", "producers", "consumers", "capacity", "prodDelayMs", "consDelayMs", "rep",
+      "durationMs", "produced", "consumed", "throughputPerSec", "processCpuMs",
+      "producerCpuMsPerThread", "consumerCpuMsPerThread", "avgOccupancy", "maxOccupancy",
+      "residenceP50Us", "residenceP99Us", "endToEndP99Us", "voluntaryCtxSwitches", "allocatedKB", "gcCount" };
+
+  private Sweep() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    List<String> modes = strings("sweep.modes", "monitor,lock,condition,ring");
+    List<Long> producers = longs("sweep.producers", "1,4");
+    List<Long> consumers = longs("sweep.consumers", "1,4");
+    List<Long> capacities = longs("sweep.capacities", "16,1024");
+    List<Long> prodDelays = longs("sweep.prodDelaysMs", "0");
+    List<Long> consDelays = longs("sweep.consDelaysMs", "0");
+    long warmupMs = Long.getLong("sweep.warmupSec", 2L) * 1000;
+    long durationMs = Long.getLong("sweep.durationSec", 5L) * 1000;
+    int reps = Integer.getInteger("sweep.reps", 3);
+    String out = System.getProperty("sweep.out", "sweep");
+    boolean virtual = "virtual".equalsIgnoreCase(System.getProperty("threads", "platform"));
+    int batch = Integer.getInteger("batch", 1);
+    long linger = Long.getLong("lingerMs", 5L);
+    String wait = System.getProperty("wait", "spin");
+    int reorderWindow = Integer.getInteger("reorderWindow", 0);
+    boolean flow = Boolean.getBoolean("flow");
+    BurstProfile burst = BurstProfile.parse(System.getProperty("burst"));
+
+    int combos = modes.size() * producers.size() * consumers.size() * capacities.size()
+        * prodDelays.size() * consDelays.size();
+    System.out.printf("Sweep combinations=%d reps=%d warmup=%dms duration=%dms threads=%s -> %s.csv/.json%n",
+        combos, reps, warmupMs, durationMs, virtual ? "virtual" : "platform", out);
+
+    List<RunResult> results = new ArrayList<>();
+    List<Integer> repOf = new ArrayList<>();
+    int done = 0;
+    for (String mode : modes)
+      for (long p : producers)
+        for (long c : consumers)
+          for (long cap : capacities)
+            for (long pd : prodDelays)
+              for (long cd : consDelays) {
+                RunConfig cfg = new RunConfig(mode, (int) p, (int) c, (int) cap, pd, cd, durationMs,
+                    batch, linger, wait, virtual, reorderWindow, flow, burst);
+                if (warmupMs > 0)
+                  PCRunner.run(cfg.withDurationMs(warmupMs)); // JIT y carriers calientes; se descarta
+                for (int rep = 1; rep <= reps; rep++) {
+                  RunResult r = PCRunner.run(cfg);
+                  results.add(r);
+                  repOf.add(rep);
+                }
+                done++;
+                System.out.printf("[%d/%d] mode=%s p=%d c=%d cap=%d prodDelay=%d consDelay=%d last=%.0f/s%n",
+                    done, combos, mode, p, c, cap, pd, cd, results.get(results.size() - 1).throughput());
+              }
+
+    writeCsv(Path.of(out + ".csv"), results, repOf);
+    writeJson(Path.of(out + ".json"), results, repOf);
+    System.out.printf("Wrote %d rows to %s.csv and %s.json%n", results.size(), out, out);
+  }
+
+  private static Object[] row(RunResult r, int rep) {
+    RunConfig c = r.config();
+    return new Object[] {
+        c.mode(), c.producers(), c.consumers(), c.capacity(), c.prodDelayMs(), c.consDelayMs(), rep,
+        r.elapsedNanos() / 1_000_000, r.produced(), r.consumed(), r.throughput(),
+        r.cost().cpuNanos() < 0 ? -1 : r.cost().cpuNanos() / 1_000_000,
+        r.producerCpuMsPerThread(), r.consumerCpuMsPerThread(), r.avgOccupancy(), r.maxOccupancy(),
+        r.residence().percentile(50) / 1e3, r.residence().percentile(99) / 1e3,
+        r.endToEnd().percentile(99) / 1e3, r.cost().voluntaryCtxSwitches(),
+        r.cost().allocatedBytes() < 0 ? -1 : r.cost().allocatedBytes() / 1024, r.cost().gcCount() };
+  }
+
+  private static String format(Object v) {
+    if (v instanceof Double d)
+      return String.format(Locale.ROOT, "%.3f", d);
+    return String.valueOf(v);
+  }
+
+  private static void writeCsv(Path file, List<RunResult> results, List<Integer> repOf) throws IOException {
+    try (PrintWriter w = new PrintWriter(Files.newBufferedWriter(file))) {
+      w.println(String.join(",", COLUMNS));
+      for (int i = 0; i < results.size(); i++) {
+        Object[] row = row(results.get(i), repOf.get(i));
+        StringBuilder sb = new StringBuilder();
+        for (int j = 0; j < row.length; j++) {
+          if (j > 0)
+            sb.append(',');
+          sb.append(format(row[j]));
+        }
+        w.println(sb);
+      }
+    }
+  }
+
+  private static void writeJson(Path file, List<RunResult> results, List<Integer> repOf) throws IOException {
+    try (PrintWriter w = new PrintWriter(Files.newBufferedWriter(file))) {
+      w.println("[");
+      for (int i = 0; i < results.size(); i++) {
+        Object[] row = row(results.get(i), repOf.get(i));
+        StringBuilder sb = new StringBuilder("  {");
+        for (int j = 0; j < row.length; j++) {
+          if (j > 0)
+            sb.append(", ");
+          sb.append('"').append(COLUMNS[j]).append("\": ");
+          if (row[j] instanceof String s)
+            sb.append('"').append(s).append('"');
+          else
+            sb.append(format(row[j]));
+        }
+        sb.append(i + 1 < results.size() ? "}," : "}");
+        w.println(sb);
+      }
+      w.println("]");
+    }
+  }
+
+  private static List<String> strings(String prop, String def) {
+    return Arrays.stream(System.getProperty(prop, def).split(","))
+        .map(String::trim).filter(s -> !s.isEmpty()).toList();
+  }
+
+  private static List<Long> longs(String prop, String def) {
+    return strings(prop, def).stream().map(Long::parseLong).toList();
+  }
+}
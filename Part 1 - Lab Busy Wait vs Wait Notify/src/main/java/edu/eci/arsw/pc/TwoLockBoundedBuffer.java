@@ -0,0 +1,231 @@
+package edu.eci.arsw.pc;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cola acotada de dos locks (Michael &amp; Scott): productores y consumidores
+ * sincronizan sobre locks distintos (cola y cabeza de una lista enlazada),
+ * por lo que un {@code put} y un {@code take} no compiten entre sí.
+ *
+ * <p>El conteo es atómico y las señales son en cascada: quien encuentra más
+ * espacio (o más elementos) tras su operación despierta al siguiente de su
+ * mismo lado; al otro lado sólo se le señala en la transición vacío→no-vacío
+ * o lleno→no-lleno.
+ *
+ * <p>{@link #shutdown()} toma ambos locks para cerrar: un {@code put} que ya
+ * pasó el chequeo termina antes, y ninguno entra después.
+ */
+public final class TwoLockBoundedBuffer<T> implements WorkQueue<T> {
+  private static final class Node<T> {
+    T item;
+    Node<T> next;
+
+    Node(T item) {
+      this.item = item;
+    }
+  }
+
+  private final int capacity;
+  private final AtomicInteger count = new AtomicInteger();
+  private Node<T> head; // nodo centinela; protegido por takeLock
+  private Node<T> last; // protegido por putLock
+  private final ReentrantLock takeLock = new ReentrantLock();
+  private final Condition notEmpty = takeLock.newCondition();
+  private final ReentrantLock putLock = new ReentrantLock();
+  private final Condition notFull = putLock.newCondition();
+  private volatile boolean closed; // se escribe con ambos locks
+
+  public TwoLockBoundedBuffer(int capacity) {
+    if (capacity <= 0)
+      throw new IllegalArgumentException("capacity must be > 0");
+    this.capacity = capacity;
+    this.head = this.last = new Node<>(null);
+  }
+
+  @Override
+  public void put(T item) throws InterruptedException {
+    if (item == null)
+      throw new NullPointerException("item");
+    int c;
+    putLock.lockInterruptibly();
+    try {
+      while (count.get() == capacity && !closed) {
+        notFull.await();
+      }
+      ensureOpen();
+      last = last.next = new Node<>(item);
+      c = count.getAndIncrement();
+      if (c + 1 < capacity)
+        notFull.signal(); // aún hay espacio: cascada a otro productor
+    } finally {
+      putLock.unlock();
+    }
+    if (c == 0)
+      signalNotEmpty(); // transición vacío -> no vacío
+  }
+
+  @Override
+  public T take() throws InterruptedException {
+    T v;
+    int c;
+    takeLock.lockInterruptibly();
+    try {
+      while (count.get() == 0) {
+        ensureOpen(); // cerrada y vacía: no va a llegar nada más
+        notEmpty.await();
+      }
+      Node<T> first = head.next;
+      head.next = head; // ayuda al GC
+      head = first;
+      v = first.item;
+      first.item = null;
+      c = count.getAndDecrement();
+      if (c > 1)
+        notEmpty.signal(); // quedan elementos: cascada a otro consumidor
+    } finally {
+      takeLock.unlock();
+    }
+    if (c == capacity)
+      signalNotFull(); // transición lleno -> no lleno
+    return v;
+  }
+
+  @Override
+  public boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException {
+    if (item == null)
+      throw new NullPointerException("item");
+    long nanos = unit.toNanos(timeout);
+    int c;
+    putLock.lockInterruptibly();
+    try {
+      while (count.get() == capacity && !closed) {
+        if (nanos <= 0)
+          return false;
+        nanos = notFull.awaitNanos(nanos);
+      }
+      ensureOpen();
+      last = last.next = new Node<>(item);
+      c = count.getAndIncrement();
+      if (c + 1 < capacity)
+        notFull.signal();
+    } finally {
+      putLock.unlock();
+    }
+    if (c == 0)
+      signalNotEmpty();
+    return true;
+  }
+
+  @Override
+  public T poll(long timeout, TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    T v;
+    int c;
+    takeLock.lockInterruptibly();
+    try {
+      while (count.get() == 0) {
+        ensureOpen();
+        if (nanos <= 0)
+          return null;
+        nanos = notEmpty.awaitNanos(nanos);
+      }
+      Node<T> first = head.next;
+      head.next = head;
+      head = first;
+      v = first.item;
+      first.item = null;
+      c = count.getAndDecrement();
+      if (c > 1)
+        notEmpty.signal();
+    } finally {
+      takeLock.unlock();
+    }
+    if (c == capacity)
+      signalNotFull();
+    return v;
+  }
+
+  /** Espera un elemento y se lleva hasta {@code max} con una sola toma del lock de cabeza. */
+  @Override
+  public int drainTo(Collection<? super T> sink, int max) throws InterruptedException {
+    if (max <= 0)
+      throw new IllegalArgumentException("max must be > 0");
+    int n;
+    int c;
+    takeLock.lockInterruptibly();
+    try {
+      while (count.get() == 0) {
+        ensureOpen();
+        notEmpty.await();
+      }
+      n = Math.min(max, count.get());
+      for (int i = 0; i < n; i++) {
+        Node<T> first = head.next;
+        head.next = head;
+        head = first;
+        sink.add(first.item);
+        first.item = null;
+      }
+      c = count.getAndAdd(-n);
+      if (c > n)
+        notEmpty.signal();
+    } finally {
+      takeLock.unlock();
+    }
+    if (c == capacity)
+      signalNotFull();
+    return n;
+  }
+
+  private void signalNotEmpty() {
+    takeLock.lock();
+    try {
+      notEmpty.signal();
+    } finally {
+      takeLock.unlock();
+    }
+  }
+
+  private void signalNotFull() {
+    putLock.lock();
+    try {
+      notFull.signal();
+    } finally {
+      putLock.unlock();
+    }
+  }
+
+  @Override
+  public int size() {
+    return count.get();
+  }
+
+  @Override
+  public int capacity() {
+    return capacity;
+  }
+
+  @Override
+  public boolean shutdown() {
+    putLock.lock();
+    takeLock.lock();
+    try {
+      closed = true;
+      notFull.signalAll(); // despierta a todos: productores y consumidores
+      notEmpty.signalAll();
+      return true;
+    } finally {
+      takeLock.unlock();
+      putLock.unlock();
+    }
+  }
+
+  private void ensureOpen() {
+    if (closed)
+      throw new QueueClosedException();
+  }
+}
@@ -0,0 +1,75 @@
+package edu.eci.arsw.pc;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Qué hace un hilo entre dos intentos fallidos sobre una cola sin bloqueo
+ * ({@link BusySpinQueue}, {@link RingBufferQueue}). Permite elegir entre
+ * latencia de entrega y CPU consumida sin pasar a un monitor.
+ *
+ * <p>Las variantes que estacionan el hilo usan {@code parkNanos} acotado, así
+ * que no necesitan que el otro lado las despierte.
+ */
+@FunctionalInterface
+public interface WaitStrategy {
+
+  /** Nombres aceptados por {@link #of}. */
+  String NAMES = "spin|yield|backoff|park";
+
+  /**
+   * Espera antes del siguiente intento.
+   *
+   * @param attempt intentos fallidos consecutivos hasta ahora (empieza en 0)
+   */
+  void idle(int attempt);
+
+  /** Giro puro con {@code Thread.onSpinWait()}: mínima latencia, 100% de un núcleo. */
+  static WaitStrategy busySpin() {
+    return attempt -> Thread.onSpinWait();
+  }
+
+  /** Gira {@code spins} veces y luego cede el procesador con {@code Thread.yield()}. */
+  static WaitStrategy spinThenYield(int spins) {
+    return attempt -> {
+      if (attempt < spins)
+        Thread.onSpinWait();
+      else
+        Thread.yield();
+    };
+  }
+
+  /** Backoff exponencial en CPU: 1, 2, 4, ... hasta {@code 2^maxShift} pausas de giro. */
+  static WaitStrategy backoff(int maxShift) {
+    return attempt -> {
+      int pauses = 1 << Math.min(attempt, maxShift);
+      for (int i = 0; i < pauses; i++)
+        Thread.onSpinWait();
+    };
+  }
+
+  /**
+   * Gira {@code spins} veces y luego estaciona el hilo con esperas que se
+   * duplican desde 1µs hasta {@code maxParkNanos}.
+   */
+  static WaitStrategy spinThenPark(int spins, long maxParkNanos) {
+    return attempt -> {
+      if (attempt < spins) {
+        Thread.onSpinWait();
+        return;
+      }
+      long nanos = 1_000L << Math.min(attempt - spins, 20);
+      LockSupport.parkNanos(Math.min(nanos, maxParkNanos));
+    };
+  }
+
+  /** Estrategia por nombre ({@link #NAMES}) con parámetros por defecto. */
+  static WaitStrategy of(String name) {
+    return switch (name.toLowerCase()) {
+      case "spin" -> busySpin();
+      case "yield" -> spinThenYield(100);
+      case "backoff" -> backoff(10);
+      case "park" -> spinThenPark(100, 1_000_000L);
+      default -> throw new IllegalArgumentException("unknown wait strategy: " + name + " (expected " + NAMES + ")");
+    };
+  }
+}
@@ -0,0 +1,67 @@
+package edu.eci.arsw.pc;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contrato común de las colas del laboratorio. {@link Producer},
+ * {@link Consumer} y los benchmarks sólo dependen de esta interfaz, así que
+ * cualquier implementación (propia o un {@code BlockingQueue} adaptado con
+ * {@link BlockingQueueAdapter}) se enchufa por nombre desde {@link WorkQueues}.
+ */
+public interface WorkQueue<T> {
+
+  /** Encola esperando (bloqueando o girando, según la implementación) si está llena. */
+  void put(T item) throws InterruptedException;
+
+  /** Desencola esperando si está vacía. */
+  T take() throws InterruptedException;
+
+  /** Como {@link #put}, pero se rinde tras {@code timeout}; retorna false si no hubo espacio. */
+  boolean offer(T item, long timeout, TimeUnit unit) throws InterruptedException;
+
+  /** Como {@link #take}, pero se rinde tras {@code timeout}; retorna null si no hubo elementos. */
+  T poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+  int size();
+
+  int capacity();
+
+  /**
+   * Cierra la cola para el apagado y despierta a todos los que esperan. Desde
+   * entonces {@code put}/{@code offer} lanzan {@link QueueClosedException};
+   * {@code take}/{@code poll}/{@code drainTo} siguen entregando lo que quede y
+   * la lanzan cuando la cola está vacía.
+   *
+   * @return false si la implementación no tiene estado cerrado (por defecto):
+   *         quien espere en ella sólo sale interrumpido
+   */
+  default boolean shutdown() {
+    return false;
+  }
+
+  /** Encola todos los elementos; las implementaciones pueden hacerlo por tramos. */
+  default void putAll(Collection<? extends T> items) throws InterruptedException {
+    for (T item : items)
+      put(item);
+  }
+
+  /**
+   * Espera hasta que haya al menos un elemento y mueve hasta {@code max}
+   * elementos a {@code sink}.
+   *
+   * @return cantidad de elementos transferidos (siempre &gt;= 1)
+   */
+  default int drainTo(Collection<? super T> sink, int max) throws InterruptedException {
+    if (max <= 0)
+      throw new IllegalArgumentException("max must be > 0");
+    sink.add(take());
+    int n = 1;
+    T v;
+    while (n < max && (v = poll(0, TimeUnit.NANOSECONDS)) != null) {
+      sink.add(v);
+      n++;
+    }
+    return n;
+  }
+}
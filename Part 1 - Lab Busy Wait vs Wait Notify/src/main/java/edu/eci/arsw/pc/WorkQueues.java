@@ -0,0 +1,88 @@
+package edu.eci.arsw.pc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.LinkedTransferQueue;
+
+/** Fábrica de {@link WorkQueue} por nombre, usada por {@link PCApp} y los benchmarks. */
+public final class WorkQueues {
+  /** Nombres aceptados por {@link #create}. */
+  public static final List<String> NAMES = List.of(
+      "monitor", "lock", "spin", "ring", "condition", "twolock", "long", "abq", "lbq", "ltq", "mmap", "sharded", "conflate", "elastic");
+
+  private WorkQueues() {
+  }
+
+  public static WorkQueue<Long> create(String name, int capacity, boolean singleProducer) {
+    return create(name, capacity, singleProducer, WaitStrategy.busySpin());
+  }
+
+  /** Como {@link #create(String, int, boolean, WaitStrategy, int)} con una cola por núcleo en {@code sharded}. */
+  public static WorkQueue<Long> create(String name, int capacity, boolean singleProducer, WaitStrategy wait) {
+    return create(name, capacity, singleProducer, wait, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * {@code mmap} abre una {@link MappedLongQueue} en {@code -Dmmap.dir}
+   * (por defecto {@code <tmpdir>/pc-mmap-queue}) con {@code -Dmmap.segmentRecords}
+   * (65536) y {@code -Dmmap.fsyncEvery} (0); quien la crea debe cerrarla.
+   * {@code sharded} reparte con {@code -Dsharded.placement=roundrobin|hash}.
+   * {@code elastic} crece hasta {@code capacity} desde {@code -Delastic.min}
+   * ({@code capacity/16}) evaluando cada {@code -Delastic.windowMs} (100).
+   * {@code conflate} fusiona los elementos en {@code -Dconflate.keys} claves
+   * (16) derivadas del valor.
+   *
+   * @param name           uno de {@link #NAMES}
+   * @param capacity       capacidad (ignorada por {@code ltq}, que no es acotada)
+   * @param singleProducer true si sólo un hilo va a encolar (permite atajos en {@code ring})
+   * @param wait           espera entre intentos de {@code spin} y {@code ring}; el resto la ignora
+   * @param consumers      consumidores previstos: {@code sharded} crea una cola por cada uno
+   */
+  public static WorkQueue<Long> create(String name, int capacity, boolean singleProducer, WaitStrategy wait,
+      int consumers) {
+    return switch (name.toLowerCase()) {
+      case "monitor" -> new BoundedBuffer<>(capacity);
+      case "lock" -> new LockBoundedBuffer<>(capacity);
+      case "spin" -> new BusySpinQueue<>(capacity, wait);
+      case "ring" -> new RingBufferQueue<>(capacity, singleProducer, wait);
+      case "condition" -> new ConditionBoundedBuffer<>(capacity);
+      case "twolock" -> new TwoLockBoundedBuffer<>(capacity);
+      case "long" -> new LongBoundedBuffer(capacity);
+      case "abq" -> new BlockingQueueAdapter<>(new ArrayBlockingQueue<>(capacity));
+      case "lbq" -> new BlockingQueueAdapter<>(new LinkedBlockingQueue<>(capacity));
+      case "ltq" -> new BlockingQueueAdapter<>(new LinkedTransferQueue<>());
+      case "mmap" -> openMapped(capacity);
+      case "elastic" -> new ElasticBoundedBuffer<>(
+          Math.min(capacity, Integer.getInteger("elastic.min", Math.max(1, capacity / 16))), capacity,
+          Long.getLong("elastic.windowMs", 100L));
+      case "conflate" -> conflating(capacity, Integer.getInteger("conflate.keys", 16));
+      case "sharded" -> new ShardedQueue<>(capacity, consumers,
+          "hash".equalsIgnoreCase(System.getProperty("sharded.placement"))
+              ? ShardedQueue.Placement.HASH
+              : ShardedQueue.Placement.ROUND_ROBIN);
+      default -> throw new IllegalArgumentException("unknown mode: " + name + " (expected one of " + NAMES + ")");
+    };
+  }
+
+  private static ConflatingQueue<Integer, Long> conflating(int capacity, int keys) {
+    if (keys <= 0)
+      throw new IllegalArgumentException("conflate.keys must be > 0");
+    // las marcas de tiempo se mezclan antes del módulo: su granularidad puede no ser de 1 ns
+    return new ConflatingQueue<>(capacity, v -> (int) Long.remainderUnsigned(v * 0x9E3779B97F4A7C15L >>> 16, keys));
+  }
+
+  private static MappedLongQueue openMapped(int capacity) {
+    Path dir = Path.of(System.getProperty("mmap.dir",
+        Path.of(System.getProperty("java.io.tmpdir"), "pc-mmap-queue").toString()));
+    try {
+      return new MappedLongQueue(dir, capacity, Integer.getInteger("mmap.segmentRecords", 1 << 16),
+          Integer.getInteger("mmap.fsyncEvery", 0));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package edu.eci.arsw.pc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/** {@link BusySpinQueue} con varios productores, para cada {@link WaitStrategy}. */
+class BusySpinQueueTest {
+
+  // spin y backoff nunca ceden el núcleo: con pocos núcleos se avanza sólo cuando el SO
+  // desaloja a quien gira, así que esas dos corridas son más chicas
+
+  @Test
+  void busySpinNoLossNoDuplicates() throws InterruptedException {
+    QueueStress.run(new BusySpinQueue<>(4, WaitStrategy.busySpin()), 2, 2, 1_000, true);
+  }
+
+  @Test
+  void spinThenYieldNoLossNoDuplicates() throws InterruptedException {
+    QueueStress.run(new BusySpinQueue<>(4, WaitStrategy.of("yield")), 4, 4, 10_000, true);
+  }
+
+  @Test
+  void backoffNoLossNoDuplicates() throws InterruptedException {
+    QueueStress.run(new BusySpinQueue<>(4, WaitStrategy.of("backoff")), 2, 2, 1_000, true);
+  }
+
+  @Test
+  void spinThenParkNoLossNoDuplicates() throws InterruptedException {
+    QueueStress.run(new BusySpinQueue<>(4, WaitStrategy.of("park")), 4, 4, 10_000, true);
+  }
+
+  @Test
+  void sizeNeverExceedsCapacityUnderFailedOffers() throws InterruptedException {
+    BusySpinQueue<Long> q = new BusySpinQueue<>(2);
+    assertTrue(q.offer(1L));
+    assertTrue(q.offer(2L));
+    AtomicBoolean done = new AtomicBoolean();
+    AtomicInteger maxSeen = new AtomicInteger();
+    List<Thread> offering = new ArrayList<>();
+    for (int i = 0; i < 3; i++) // cada offer fallido reserva y devuelve un lugar
+      offering.add(Thread.ofPlatform().start(() -> {
+        while (!done.get())
+          assertFalse(q.offer(3L));
+      }));
+    for (int i = 0; i < 200_000; i++)
+      maxSeen.accumulateAndGet(q.size(), Math::max);
+    done.set(true);
+    for (Thread t : offering)
+      t.join();
+    assertEquals(2, maxSeen.get());
+    assertEquals(2, q.size());
+  }
+}
@@ -0,0 +1,28 @@
+package edu.eci.arsw.pc;
+
+import org.junit.jupiter.api.Test;
+
+/** Buffer de dos condiciones {@link ConditionBoundedBuffer}: sólo señala si hay alguien esperando. */
+class ConditionBoundedBufferTest {
+
+  @Test
+  void capacityOneNoLossNoDuplicates() throws InterruptedException {
+    // cada put/take cruza la transición lleno/vacío: ejercita todas las señales
+    QueueStress.run(new ConditionBoundedBuffer<>(1), 4, 4, 5_000, true);
+  }
+
+  @Test
+  void capacityTwoNoLossNoDuplicates() throws InterruptedException {
+    QueueStress.run(new ConditionBoundedBuffer<>(2), 4, 4, 5_000, true);
+  }
+
+  @Test
+  void capacitySixteenNoLossNoDuplicates() throws InterruptedException {
+    QueueStress.run(new ConditionBoundedBuffer<>(16), 4, 4, 20_000, true);
+  }
+
+  @Test
+  void moreConsumersThanProducers() throws InterruptedException {
+    QueueStress.run(new ConditionBoundedBuffer<>(2), 2, 6, 10_000, true);
+  }
+}
@@ -0,0 +1,71 @@
+package edu.eci.arsw.pc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/** Política de crecimiento y encogimiento de {@link ElasticBoundedBuffer}. */
+class ElasticBoundedBufferTest {
+  private static final long WINDOW_MS = 20;
+
+  @Test
+  void growsUnderPressureAndShrinksWhenQuiet() throws InterruptedException {
+    ElasticBoundedBuffer<Long> q = new ElasticBoundedBuffer<>(2, 16, WINDOW_MS);
+    Thread producer = new Thread(() -> {
+      try {
+        for (long i = 0; ; i++)
+          q.put(i);
+      } catch (InterruptedException e) {
+        // fin de la fase de carga
+      }
+    });
+    producer.start();
+
+    // lleno y con el productor esperando: cada ventana duplica hasta max
+    for (int expected : new int[] { 4, 8, 16 }) {
+      while (q.size() < q.capacity())
+        Thread.sleep(1);
+      Thread.sleep(2 * WINDOW_MS);
+      q.poll(0, TimeUnit.MILLISECONDS); // la política se evalúa dentro de las operaciones
+      assertEquals(expected, q.capacity());
+    }
+    while (q.size() < q.capacity())
+      Thread.sleep(1);
+    Thread.sleep(2 * WINDOW_MS);
+    q.poll(0, TimeUnit.MILLISECONDS);
+    assertEquals(16, q.capacity(), "no crece más allá de max");
+    producer.interrupt();
+    producer.join();
+    q.drainTo(new ArrayList<>(), 16);
+
+    // vacío: se encoge a la mitad cada SHRINK_WINDOWS ventanas tranquilas, hasta min
+    for (int expected : new int[] { 8, 4, 2 }) {
+      int before = q.capacity();
+      int windows = 0;
+      while (q.capacity() == before && windows < 20) {
+        Thread.sleep(WINDOW_MS + 5);
+        assertNull(q.poll(0, TimeUnit.MILLISECONDS));
+        windows++;
+      }
+      assertEquals(expected, q.capacity());
+      assertTrue(windows >= ElasticBoundedBuffer.SHRINK_WINDOWS, "se encogió en " + windows + " ventanas");
+    }
+    for (int i = 0; i < 2 * ElasticBoundedBuffer.SHRINK_WINDOWS; i++) {
+      Thread.sleep(WINDOW_MS + 5);
+      q.poll(0, TimeUnit.MILLISECONDS);
+    }
+    assertEquals(2, q.capacity(), "no baja de min");
+    String summary = q.summary();
+    assertTrue(summary.contains("peakCapacity=16 grows=3 shrinks=3"), summary);
+  }
+
+  @Test
+  void multiProducerMultiConsumerNoLossNoDuplicates() throws InterruptedException {
+    QueueStress.run(new ElasticBoundedBuffer<>(1, 16, 5), 4, 4, 10_000, true);
+  }
+}
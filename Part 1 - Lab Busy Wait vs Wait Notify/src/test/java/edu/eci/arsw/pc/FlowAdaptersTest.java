@@ -0,0 +1,86 @@
+package edu.eci.arsw.pc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.Test;
+
+/** Adaptadores {@code Flow}: {@link StampPublisher}, {@link QueueSubscriber}, {@link QueuePublisher}, {@link MeteredSubscriber}. */
+class FlowAdaptersTest {
+
+  @Test
+  void fullQueueStopsDemandAndResumesWhenDrained() throws InterruptedException {
+    ExecutorService exec = Executors.newVirtualThreadPerTaskExecutor();
+    try {
+      BoundedBuffer<Long> queue = new BoundedBuffer<>(4);
+      LongAdder produced = new LongAdder();
+      QueueSubscriber<Long> s = new QueueSubscriber<>(queue, 8, exec, produced);
+      new StampPublisher(exec, 0).subscribe(s);
+      awaitAtLeast(4, produced::sum);
+      Thread.sleep(50); // con la cola llena no entra nada más
+      assertEquals(4, produced.sum());
+      assertEquals(4, queue.size());
+      long last = Long.MIN_VALUE;
+      for (int i = 0; i < 100; i++) { // al sacar, la demanda vuelve a fluir y el orden se mantiene
+        long v = queue.take();
+        assertTrue(v > last);
+        last = v;
+      }
+      awaitAtLeast(100, produced::sum); // se cuenta justo después de entrar a la cola
+      s.cancel();
+    } finally {
+      exec.shutdownNow();
+    }
+  }
+
+  @Test
+  void closedQueueCountsNothing() throws InterruptedException {
+    ExecutorService exec = Executors.newVirtualThreadPerTaskExecutor();
+    try {
+      BoundedBuffer<Long> queue = new BoundedBuffer<>(4);
+      queue.shutdown();
+      LongAdder produced = new LongAdder();
+      new StampPublisher(exec, 0).subscribe(new QueueSubscriber<>(queue, 8, exec, produced));
+      Thread.sleep(50);
+      assertEquals(0, produced.sum());
+    } finally {
+      exec.shutdownNow();
+    }
+  }
+
+  @Test
+  void subscribersShareTheQueueWithoutLoss() throws InterruptedException {
+    ExecutorService exec = Executors.newVirtualThreadPerTaskExecutor();
+    try {
+      BoundedBuffer<Long> queue = new BoundedBuffer<>(1_000);
+      for (long i = 0; i < 1_000; i++)
+        queue.put(System.nanoTime());
+      LongAdder consumed = new LongAdder();
+      QueuePublisher<Long> publisher = new QueuePublisher<>(queue, exec, 16);
+      MeteredSubscriber a = new MeteredSubscriber(consumed, 0, 16);
+      MeteredSubscriber b = new MeteredSubscriber(consumed, 0, 16);
+      publisher.subscribe(a);
+      publisher.subscribe(b);
+      awaitAtLeast(1_000, consumed::sum);
+      assertEquals(1_000, consumed.sum());
+      a.cancel();
+      b.cancel();
+      assertEquals(1_000, a.residence().count() + b.residence().count());
+    } finally {
+      exec.shutdownNow();
+    }
+  }
+
+  private static void awaitAtLeast(long expected, LongSupplier value) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (value.getAsLong() < expected && System.nanoTime() < deadline)
+      Thread.sleep(1);
+    assertTrue(value.getAsLong() >= expected, value.getAsLong() + " < " + expected);
+  }
+}
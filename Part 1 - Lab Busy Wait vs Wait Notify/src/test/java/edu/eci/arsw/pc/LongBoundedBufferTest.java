@@ -0,0 +1,33 @@
+package edu.eci.arsw.pc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/** Buffer de {@code long} primitivos {@link LongBoundedBuffer}. */
+class LongBoundedBufferTest {
+
+  @Test
+  void wrapsAroundInOrder() throws InterruptedException {
+    LongBoundedBuffer q = new LongBoundedBuffer(3);
+    for (long round = 0; round < 5; round++) { // head y tail dan varias vueltas al arreglo
+      q.putLong(3 * round);
+      q.putLong(3 * round + 1);
+      q.putLong(3 * round + 2);
+      assertEquals(3, q.size());
+      assertEquals(3 * round, q.takeLong());
+      List<Long> rest = new ArrayList<>();
+      assertEquals(2, q.drainTo(rest, 8));
+      assertEquals(List.of(3 * round + 1, 3 * round + 2), rest);
+    }
+    assertEquals(0, q.size());
+  }
+
+  @Test
+  void multiProducerMultiConsumerNoLossNoDuplicates() throws InterruptedException {
+    QueueStress.run(new LongBoundedBuffer(2), 4, 4, 10_000, true);
+  }
+}
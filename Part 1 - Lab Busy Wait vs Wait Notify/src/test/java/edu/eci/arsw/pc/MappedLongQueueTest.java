@@ -0,0 +1,58 @@
+package edu.eci.arsw.pc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** {@link MappedLongQueue}: el cursor de lectura sobrevive a reabrir el directorio. */
+class MappedLongQueueTest {
+
+  @TempDir
+  Path dir;
+
+  @Test
+  void resumesWhereItStoppedAfterReopening() throws IOException, InterruptedException {
+    try (MappedLongQueue q = new MappedLongQueue(dir, 64, 4, 0)) { // segmentos chicos: cruza varios
+      assertEquals(0, q.recovered());
+      for (long i = 0; i < 10; i++)
+        q.putLong(i);
+      assertEquals(0L, q.takeLong());
+      assertEquals(1L, q.takeLong());
+    }
+    try (MappedLongQueue q = new MappedLongQueue(dir, 64, 4, 0)) {
+      assertEquals(8, q.recovered());
+      assertEquals(8, q.size());
+      q.putLong(10L);
+      for (long i = 2; i <= 10; i++)
+        assertEquals(i, q.takeLong());
+      assertEquals(0, q.size());
+    }
+    try (MappedLongQueue q = new MappedLongQueue(dir, 64, 4, 0)) {
+      assertEquals(0, q.recovered());
+    }
+  }
+
+  @Test
+  void rejectsADifferentSegmentSize() throws IOException {
+    new MappedLongQueue(dir, 8, 4, 0).close();
+    assertThrows(IOException.class, () -> new MappedLongQueue(dir, 8, 8, 0));
+  }
+
+  @Test
+  void closesWithTheShutdownSemantics() throws IOException, InterruptedException {
+    MappedLongQueue q = new MappedLongQueue(dir, 8, 4, 0);
+    q.putLong(1L);
+    q.shutdown();
+    assertThrows(QueueClosedException.class, () -> q.putLong(2L));
+    assertEquals(1L, q.takeLong());
+    assertThrows(QueueClosedException.class, q::takeLong);
+    q.close();
+    assertThrows(QueueClosedException.class, () -> q.poll(0, TimeUnit.NANOSECONDS));
+  }
+}
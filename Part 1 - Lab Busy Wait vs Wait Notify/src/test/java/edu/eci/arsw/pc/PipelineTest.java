@@ -0,0 +1,49 @@
+package edu.eci.arsw.pc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Test;
+
+/** {@link Pipeline}: arranque, cierre con píldoras y rebalanceo sin perder elementos. */
+class PipelineTest {
+
+  @Test
+  void stopDrainsEverythingInFlight() throws InterruptedException {
+    AtomicLong generated = new AtomicLong();
+    LongAdder sunk = new LongAdder();
+    Pipeline p = Pipeline.<Long>from("source", 2, generated::incrementAndGet)
+        .stage("double", 3, 8, v -> 2 * v)
+        .to("sink", 2, 8, v -> sunk.increment());
+    p.start();
+    assertThrows(IllegalStateException.class, p::start);
+    Thread.sleep(200);
+    assertTrue(p.stop(5_000));
+    assertEquals(generated.get(), sunk.sum());
+    assertTrue(sunk.sum() > 0);
+  }
+
+  @Test
+  void autoBalanceAddsThreadsAndStillDrains() throws InterruptedException {
+    AtomicLong generated = new AtomicLong();
+    LongAdder sunk = new LongAdder();
+    Pipeline p = Pipeline.<Long>from("source", 1, generated::incrementAndGet)
+        .autoBalance(4)
+        .stage("slow", 1, 8, v -> {
+          Thread.sleep(2); // cuello de botella: entrada llena y ocupada todo el tiempo
+          return v;
+        })
+        .to("sink", 1, 8, v -> sunk.increment());
+    p.start();
+    long deadline = System.nanoTime() + 10_000_000_000L;
+    while (p.report().stream().noneMatch(l -> l.startsWith("autobalance")) && System.nanoTime() < deadline)
+      Thread.sleep(50);
+    assertTrue(p.stop(5_000), "the added worker got no poison pill");
+    assertTrue(p.report().stream().anyMatch(l -> l.startsWith("autobalance") && l.contains("slow")));
+    assertEquals(generated.get(), sunk.sum());
+  }
+}
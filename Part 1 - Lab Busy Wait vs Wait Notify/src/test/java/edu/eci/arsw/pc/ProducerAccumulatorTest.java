@@ -0,0 +1,41 @@
+package edu.eci.arsw.pc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Test;
+
+/** {@link ProducerAccumulator} y su linger cuando el productor duerme entre elementos. */
+class ProducerAccumulatorTest {
+
+  @Test
+  void flushIfExpiredWaitsForTheLinger() throws InterruptedException {
+    BoundedBuffer<Long> buffer = new BoundedBuffer<>(16);
+    ProducerAccumulator<Long> acc = new ProducerAccumulator<>(buffer, 8, 50);
+    assertEquals(0, acc.add(1L));
+    assertEquals(0, acc.flushIfExpired());
+    assertEquals(1, acc.pending());
+    TimeUnit.NANOSECONDS.sleep(Math.max(0, acc.lingerDeadline() - System.nanoTime()));
+    assertEquals(1, acc.flushIfExpired());
+    assertEquals(0, acc.pending());
+    assertEquals(1, buffer.size());
+  }
+
+  @Test
+  void producerFlushesDuringALongDelay() throws InterruptedException {
+    BoundedBuffer<Long> buffer = new BoundedBuffer<>(16);
+    LongAdder produced = new LongAdder();
+    // un elemento cada 2 s con linger de 20 ms: el primero no puede esperar al segundo add
+    Producer p = new Producer(buffer, produced, 2_000, 8, 20);
+    Thread t = Thread.ofPlatform().start(p);
+    Long first = buffer.poll(1, TimeUnit.SECONDS);
+    p.stop();
+    t.interrupt();
+    t.join(5_000);
+    assertNotNull(first, "the pending batch waited for the next add");
+    assertEquals(1, produced.sum());
+  }
+}
@@ -0,0 +1,106 @@
+package edu.eci.arsw.pc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.Test;
+
+/** {@link WorkQueue#shutdown()} en las colas con estado cerrado, y el apagado del productor. */
+class QueueShutdownTest {
+
+  private static final List<IntFunction<WorkQueue<Long>>> CLOSEABLE = List.of(
+      BoundedBuffer::new,
+      LockBoundedBuffer::new,
+      ConditionBoundedBuffer::new,
+      TwoLockBoundedBuffer::new,
+      LongBoundedBuffer::new,
+      c -> new ElasticBoundedBuffer<>(c, 4 * c, 1_000));
+
+  @Test
+  void deliversWhatIsLeftThenThrows() throws InterruptedException {
+    for (IntFunction<WorkQueue<Long>> factory : CLOSEABLE) {
+      WorkQueue<Long> q = factory.apply(4);
+      String name = q.getClass().getSimpleName();
+      q.put(1L);
+      q.put(2L);
+      q.put(3L);
+      assertTrue(q.shutdown(), name);
+      assertThrows(QueueClosedException.class, () -> q.put(4L), name);
+      assertThrows(QueueClosedException.class, () -> q.offer(4L, 0, TimeUnit.NANOSECONDS), name);
+      assertEquals(1L, q.take(), name);
+      List<Long> sink = new ArrayList<>();
+      assertEquals(2, q.drainTo(sink, 8), name);
+      assertEquals(List.of(2L, 3L), sink, name);
+      assertThrows(QueueClosedException.class, q::take, name);
+      assertThrows(QueueClosedException.class, () -> q.poll(0, TimeUnit.NANOSECONDS), name);
+      assertThrows(QueueClosedException.class, () -> q.drainTo(sink, 8), name);
+    }
+  }
+
+  @Test
+  void wakesBlockedProducersAndConsumers() throws InterruptedException {
+    for (IntFunction<WorkQueue<Long>> factory : CLOSEABLE) {
+      WorkQueue<Long> empty = factory.apply(1);
+      WorkQueue<Long> full = factory.apply(1);
+      full.put(0L);
+      String name = empty.getClass().getSimpleName();
+      AtomicReference<Throwable> consumer = new AtomicReference<>();
+      AtomicReference<Throwable> producer = new AtomicReference<>();
+      Thread c = Thread.ofPlatform().start(() -> capture(consumer, empty::take));
+      Thread p = Thread.ofPlatform().start(() -> capture(producer, () -> full.put(1L)));
+      awaitWaiting(c);
+      awaitWaiting(p);
+      empty.shutdown();
+      full.shutdown();
+      c.join(5_000);
+      p.join(5_000);
+      assertFalse(c.isAlive() || p.isAlive(), name);
+      assertInstanceOf(QueueClosedException.class, consumer.get(), name);
+      assertInstanceOf(QueueClosedException.class, producer.get(), name);
+      assertEquals(1, full.size(), name);
+    }
+  }
+
+  @Test
+  void stopWakesAProducerBetweenElements() throws InterruptedException {
+    BoundedBuffer<Long> buffer = new BoundedBuffer<>(4);
+    Producer p = new Producer(buffer, new LongAdder(), 60_000);
+    Thread t = Thread.ofPlatform().start(p);
+    buffer.poll(5, TimeUnit.SECONDS); // ya produjo el primero y duerme
+    awaitWaiting(t);
+    long start = System.nanoTime();
+    p.stop();
+    t.join(5_000);
+    assertFalse(t.isAlive());
+    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+  }
+
+  interface Blocking {
+    void run() throws InterruptedException;
+  }
+
+  private static void capture(AtomicReference<Throwable> out, Blocking op) {
+    try {
+      op.run();
+    } catch (Throwable t) {
+      out.set(t);
+    }
+  }
+
+  private static void awaitWaiting(Thread t) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (t.getState() != Thread.State.WAITING && t.getState() != Thread.State.TIMED_WAITING
+        && System.nanoTime() < deadline)
+      Thread.sleep(1);
+  }
+}
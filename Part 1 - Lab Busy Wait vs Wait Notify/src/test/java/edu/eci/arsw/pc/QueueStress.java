@@ -0,0 +1,94 @@
+package edu.eci.arsw.pc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Carga varios productores y consumidores sobre una {@link WorkQueue} y
+ * verifica que cada elemento se entregue exactamente una vez.
+ */
+final class QueueStress {
+  private QueueStress() {
+  }
+
+  /**
+   * El productor {@code p} encola {@code p * perProducer + i} para
+   * {@code i = 0..perProducer-1}.
+   *
+   * @param fifoPerProducer además exige que cada consumidor vea los valores
+   *                        de un mismo productor en orden creciente
+   */
+  static void run(WorkQueue<Long> q, int producers, int consumers, int perProducer,
+      boolean fifoPerProducer) throws InterruptedException {
+    int total = producers * perProducer;
+    AtomicIntegerArray seen = new AtomicIntegerArray(total);
+    AtomicInteger taken = new AtomicInteger();
+    AtomicInteger outOfOrder = new AtomicInteger();
+    List<Thread> threads = new ArrayList<>();
+    List<Throwable> errors = new ArrayList<>();
+    for (int p = 0; p < producers; p++) {
+      long base = (long) p * perProducer;
+      threads.add(new Thread(() -> {
+        try {
+          for (int i = 0; i < perProducer; i++)
+            q.put(base + i);
+        } catch (Throwable e) {
+          synchronized (errors) {
+            errors.add(e);
+          }
+        }
+      }, "producer-" + p));
+    }
+    for (int c = 0; c < consumers; c++) {
+      threads.add(new Thread(() -> {
+        long[] last = new long[producers];
+        Arrays.fill(last, -1);
+        try {
+          while (taken.get() < total) {
+            Long v = q.poll(10, TimeUnit.MILLISECONDS);
+            if (v == null)
+              continue;
+            taken.incrementAndGet();
+            seen.incrementAndGet((int) (long) v);
+            int p = (int) (v / perProducer);
+            if (v <= last[p])
+              outOfOrder.incrementAndGet();
+            last[p] = v;
+          }
+        } catch (Throwable e) {
+          synchronized (errors) {
+            errors.add(e);
+          }
+        }
+      }, "consumer-" + c));
+    }
+    for (Thread t : threads)
+      t.start();
+    for (Thread t : threads) {
+      t.join(TimeUnit.SECONDS.toMillis(60));
+      if (t.isAlive()) {
+        for (Thread other : threads)
+          other.interrupt();
+        fail(t.getName() + " did not finish; taken=" + taken.get() + "/" + total);
+      }
+    }
+    assertEquals(List.of(), errors);
+    assertEquals(total, taken.get());
+    for (int i = 0; i < total; i++) {
+      if (seen.get(i) != 1)
+        fail("value " + i + " delivered " + seen.get(i) + " times");
+    }
+    if (fifoPerProducer)
+      assertEquals(0, outOfOrder.get(), "values of one producer out of order");
+    assertEquals(0, q.size());
+    assertNull(q.poll(0, TimeUnit.NANOSECONDS), "queue should be empty");
+  }
+}
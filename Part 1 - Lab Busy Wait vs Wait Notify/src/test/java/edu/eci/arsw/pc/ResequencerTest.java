@@ -0,0 +1,60 @@
+package edu.eci.arsw.pc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/** {@link Resequencer}: consumidores en paralelo, entrega en el orden de la cola. */
+class ResequencerTest {
+
+  @Test
+  void rejectsEmptyWindow() {
+    assertThrows(IllegalArgumentException.class, () -> new Resequencer(0, v -> { }));
+  }
+
+  @Test
+  void deliversInQueueOrderDespiteOutOfOrderCompletion() throws InterruptedException {
+    int consumers = 4;
+    int perConsumer = 2_000;
+    int total = consumers * perConsumer;
+    BoundedBuffer<Long> queue = new BoundedBuffer<>(total);
+    for (long i = 0; i < total; i++)
+      queue.put(i * 7); // valores distintos de la secuencia, para notar si se cruzan
+    List<Long> out = new ArrayList<>();
+    Resequencer reseq = new Resequencer(8, out::add); // ventana chica: hay esperas
+    List<Thread> threads = new ArrayList<>();
+    for (int c = 0; c < consumers; c++) {
+      threads.add(new Thread(() -> {
+        long[] item = new long[1];
+        try {
+          for (int i = 0; i < perConsumer; i++) {
+            long seq = reseq.claim(queue, item);
+            if (ThreadLocalRandom.current().nextInt(8) == 0)
+              Thread.sleep(0, ThreadLocalRandom.current().nextInt(200_000)); // procesar lleva tiempo variable
+            else
+              Thread.yield();
+            reseq.complete(seq, item[0]);
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }));
+    }
+    for (Thread t : threads)
+      t.start();
+    for (Thread t : threads) {
+      t.join(TimeUnit.SECONDS.toMillis(60));
+      assertFalse(t.isAlive(), "consumer stuck: " + reseq.summary());
+    }
+    assertEquals(total, out.size());
+    for (int i = 0; i < total; i++)
+      assertEquals(i * 7L, out.get(i), "position " + i);
+  }
+}
@@ -0,0 +1,50 @@
+package edu.eci.arsw.pc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/** Cola lock-free {@link RingBufferQueue}. */
+class RingBufferQueueTest {
+
+  @Test
+  void capacityMustBeAPowerOfTwoAndBounded() {
+    assertEquals(1, new RingBufferQueue<Long>(1).capacity());
+    assertEquals(8, new RingBufferQueue<Long>(8).capacity());
+    assertThrows(IllegalArgumentException.class, () -> new RingBufferQueue<Long>(5)); // no se redondea a 8
+    assertThrows(IllegalArgumentException.class, () -> new RingBufferQueue<Long>(1000));
+    assertThrows(IllegalArgumentException.class, () -> new RingBufferQueue<Long>(0));
+    assertThrows(IllegalArgumentException.class, () -> new RingBufferQueue<Long>(RingBufferQueue.MAX_CAPACITY + 1));
+    assertThrows(IllegalArgumentException.class, () -> new RingBufferQueue<Long>(Integer.MAX_VALUE));
+  }
+
+  @Test
+  void fullAndEmptyWithoutBlocking() {
+    RingBufferQueue<Long> q = new RingBufferQueue<>(2);
+    assertNull(q.poll());
+    assertTrue(q.offer(1L));
+    assertTrue(q.offer(2L));
+    assertFalse(q.offer(3L));
+    assertEquals(2, q.size());
+    assertEquals(1L, q.poll());
+    assertTrue(q.offer(3L)); // la celda liberada se reusa en la siguiente vuelta
+    assertEquals(2L, q.poll());
+    assertEquals(3L, q.poll());
+    assertNull(q.poll());
+  }
+
+  @Test
+  void multiProducerMultiConsumerNoLossNoDuplicates() throws InterruptedException {
+    // capacidad pequeña para que el anillo dé muchas vueltas y se llene
+    QueueStress.run(new RingBufferQueue<>(16, false, WaitStrategy.spinThenYield(64)), 4, 4, 20_000, true);
+  }
+
+  @Test
+  void singleProducerMultiConsumer() throws InterruptedException {
+    QueueStress.run(new RingBufferQueue<>(16, true, WaitStrategy.spinThenYield(64)), 1, 3, 50_000, true);
+  }
+}
@@ -0,0 +1,29 @@
+package edu.eci.arsw.pc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/** Cola repartida {@link ShardedQueue}, con robo entre colas. */
+class ShardedQueueTest {
+
+  @Test
+  void capacityIsSplitAcrossShards() {
+    ShardedQueue<Long> q = new ShardedQueue<>(10, 4, ShardedQueue.Placement.ROUND_ROBIN);
+    assertEquals(4, q.shards());
+    assertEquals(10, q.capacity());
+    assertEquals(2, new ShardedQueue<Long>(2, 8, ShardedQueue.Placement.ROUND_ROBIN).shards());
+  }
+
+  @Test
+  void roundRobinNoLossNoDuplicates() throws InterruptedException {
+    // más consumidores que colas y al revés: unos roban, otros esperan en colas sin dueño
+    QueueStress.run(new ShardedQueue<>(32, 4, ShardedQueue.Placement.ROUND_ROBIN), 4, 6, 20_000, false);
+    QueueStress.run(new ShardedQueue<>(32, 8, ShardedQueue.Placement.ROUND_ROBIN), 3, 2, 20_000, false);
+  }
+
+  @Test
+  void hashPlacementNoLossNoDuplicates() throws InterruptedException {
+    QueueStress.run(new ShardedQueue<>(32, 4, ShardedQueue.Placement.HASH), 4, 4, 20_000, false);
+  }
+}
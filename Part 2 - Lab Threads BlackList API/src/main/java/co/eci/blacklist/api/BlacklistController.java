@@ -16,8 +16,6 @@
 
 package co.eci.blacklist.api;
 
-import java.net.UnknownHostException;
-
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -26,6 +24,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import co.eci.blacklist.api.dto.CheckResponseDTO;
 import co.eci.blacklist.application.BlacklistService;
+import co.eci.blacklist.domain.IpLiteral;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 
@@ -55,7 +54,7 @@ public class BlacklistController {
     /**
      * Verifies an IP address against blacklist servers using parallel processing.
      *
-     * @param ip      The IPv4 address to verify.
+     * @param ip      The IPv4 or IPv6 address to verify.
      * @param threads The number of threads to use (0 for automatic detection).
      * @return Verification result wrapped in CheckResponseDTO or 400 if IP invalid.
      */
@@ -65,28 +64,25 @@ public class BlacklistController {
             @RequestParam(defaultValue = "0") @Min(0) @Max(10_000) int threads) {
 
         // Validates IP first
-        if (!isValidIp(ip)) {
+        long[] key = new long[2];
+        if (!isValidIp(ip, key)) {
             return ResponseEntity.badRequest().body("Invalid IP address: " + ip);
         }
 
         int effectiveThreads = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors());
-        var res = service.check(ip, effectiveThreads);
+        var res = service.check(ip, key[0], key[1], effectiveThreads);
         return ResponseEntity.ok(CheckResponseDTO.from(res));
     }
 
     /**
-     * Validates whether a string is a valid IPv4 or IPv6 address.
+     * Validates whether a string is a valid IPv4 or IPv6 literal and parses its key.
+     * Host names are rejected, never resolved.
      *
      * @param ip the string to validate
+     * @param key receives the 128-bit key of the address
      * @return true if valid, false otherwise
      */
-    private boolean isValidIp(String ip) {
-        try {
-            java.net.InetAddress inet = java.net.InetAddress.getByName(ip);
-            // Ensure that the parsed IP matches the input (avoid accepting things like hostnames)
-            return inet.getHostAddress().equals(ip);
-        } catch (UnknownHostException e) {
-            return false;
-        }
+    private boolean isValidIp(String ip, long[] key) {
+        return IpLiteral.parse(ip, key);
     }
 }
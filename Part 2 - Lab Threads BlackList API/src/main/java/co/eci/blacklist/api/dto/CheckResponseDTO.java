@@ -14,6 +14,7 @@ import java.util.List;
  * @param totalServers   Total number of blacklist servers available.
  * @param elapsedMs      Total execution time in milliseconds.
  * @param threads        Number of parallel threads used for processing.
+ * @param cached         Whether the verdict was reused from an earlier check.
  *
  * @author ARSW-PANDILLA-2025
  * @version 1.0
@@ -25,7 +26,8 @@ public record CheckResponseDTO(
         int checkedServers,
         int totalServers,
         long elapsedMs,
-        int threads) {
+        int threads,
+        boolean cached) {
 
     /**
      * Creates a CheckResponseDTO from a domain MatchResult object.
@@ -45,6 +47,7 @@ public record CheckResponseDTO(
                 matchResult.checkedServers(),
                 matchResult.totalServers(),
                 matchResult.elapsedMs(),
-                matchResult.threads());
+                matchResult.threads(),
+                matchResult.cached());
     }
 }
@@ -1,38 +1,153 @@
 package co.eci.blacklist.application;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
 import co.eci.blacklist.domain.BlacklistChecker;
+import co.eci.blacklist.domain.IpLiteral;
 import co.eci.blacklist.domain.MatchResult;
+import co.eci.blacklist.domain.Policies;
+import co.eci.blacklist.infrastructure.HostBlackListsDataSourceFacade;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 /**
  * Application service for blacklist verification operations.
  *
+ * <p>Verdicts are cached per IP key in a bounded LRU map. An entry is reused while its time
+ * to live (separate for trustworthy and not-trustworthy verdicts) has not passed and the
+ * facade's {@link HostBlackListsDataSourceFacade#version version} of the IP is the one the
+ * verdict was computed at, so {@code seed}/{@code clear} invalidate it. Hits, misses and
+ * evictions are published as {@code cache.gets} and {@code cache.evictions} with
+ * {@code cache=blacklist.verdicts}.
+ *
+ * <p>Only the verdict and its matches are reused. A hit reports the {@code threads} of the
+ * request, {@code cached=true} and zero servers checked and elapsed time, so it is never
+ * mistaken for a measured scan.
+ *
  * @author ARSW-PANDILLA-2025
  * @version 1.0
  */
 @Service
 public class BlacklistService {
 
+    private static final String CACHE_NAME = "blacklist.verdicts";
+
     /** The domain service for blacklist checking logic */
     private final BlacklistChecker checker;
+    private final HostBlackListsDataSourceFacade facade;
+    private final int maxEntries;
+    private final long trustworthyTtlNanos;
+    private final long notTrustworthyTtlNanos;
+    private final LongSupplier clock;
+    private final Map<Key, CachedVerdict> verdicts;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    /** Cache key: the two halves of the {@link IpLiteral} key. */
+    private record Key(long hi, long lo) {
+    }
+
+    /** Cached verdict with the facade version it was computed at and its expiry time. */
+    private record CachedVerdict(MatchResult result, long version, long expiresAt) {
+    }
 
     /**
      * Constructor of the BlacklistService class.
      *
      * @param checker The blacklist checker for domain operations.
+     * @param facade The data source whose versions invalidate cached verdicts.
+     * @param policies The cache size and time to live settings.
+     * @param registry The registry for the cache metrics.
      */
-    public BlacklistService(BlacklistChecker checker) {
+    @Autowired
+    public BlacklistService(BlacklistChecker checker, HostBlackListsDataSourceFacade facade,
+            Policies policies, MeterRegistry registry) {
+        this(checker, facade, policies, registry, System::nanoTime);
+    }
+
+    BlacklistService(BlacklistChecker checker, HostBlackListsDataSourceFacade facade,
+            Policies policies, MeterRegistry registry, LongSupplier clock) {
         this.checker = checker;
+        this.facade = facade;
+        this.maxEntries = policies.getCacheSize();
+        this.trustworthyTtlNanos = policies.getCacheTrustworthyTtl().toNanos();
+        this.notTrustworthyTtlNanos = policies.getCacheNotTrustworthyTtl().toNanos();
+        this.clock = clock;
+        this.verdicts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedVerdict> eldest) {
+                if (size() <= maxEntries) {
+                    return false;
+                }
+                evictions.increment();
+                return true;
+            }
+        };
+        this.hits = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit")
+                .description("Verdict cache lookups").register(registry);
+        this.misses = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss")
+                .description("Verdict cache lookups").register(registry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", CACHE_NAME)
+                .description("Verdicts evicted because the cache was full").register(registry);
+        registry.gauge("cache.size", Tags.of("cache", CACHE_NAME),
+                this, BlacklistService::cacheSize);
     }
 
     /**
      * Performs a blacklist check for the specified IP address.
      *
      * @param ip      The IP address to check against blacklists.
+     * @param ipHi    The high 64 bits of the parsed IP key (see {@link IpLiteral}).
+     * @param ipLo    The low 64 bits of the parsed IP key.
      * @param threads The number of threads to use for parallel processing.
      * @return MatchResult containing the check results and performance metrics.
      */
-    public MatchResult check(String ip, int threads) {
-        return checker.checkHost(ip, threads);
+    public MatchResult check(String ip, long ipHi, long ipLo, int threads) {
+        if (maxEntries == 0) {
+            return checker.checkHost(ip, ipHi, ipLo, threads);
+        }
+        Key key = new Key(ipHi, ipLo);
+        long version = facade.version(ipHi, ipLo); // read before the scan: a write during it makes the entry stale
+        synchronized (verdicts) {
+            CachedVerdict e = verdicts.get(key);
+            if (e != null) {
+                if (e.version() == version && clock.getAsLong() - e.expiresAt() < 0) {
+                    hits.increment();
+                    return asHit(e.result(), ip, threads);
+                }
+                verdicts.remove(key);
+            }
+        }
+        misses.increment();
+        MatchResult result = checker.checkHost(ip, ipHi, ipLo, threads);
+        long ttl = result.trustworthy() ? trustworthyTtlNanos : notTrustworthyTtlNanos;
+        if (ttl > 0) {
+            synchronized (verdicts) {
+                verdicts.put(key, new CachedVerdict(result, version, clock.getAsLong() + ttl));
+            }
+        }
+        return result;
+    }
+
+    /** The cached verdict as answered to this request: its own text and threads, no scan done. */
+    private static MatchResult asHit(MatchResult r, String ip, int threads) {
+        return new MatchResult(ip, r.trustworthy(), r.matches(), 0, r.totalServers(), 0L, threads, true);
+    }
+
+    /**
+     * Returns the number of cached verdicts, including expired ones not yet removed.
+     *
+     * @return The cache size.
+     */
+    public int cacheSize() {
+        synchronized (verdicts) {
+            return verdicts.size();
+        }
     }
 }
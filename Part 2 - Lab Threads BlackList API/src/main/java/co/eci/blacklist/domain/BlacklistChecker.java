@@ -4,35 +4,58 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import co.eci.blacklist.domain.execution.ScanExecutor;
 import co.eci.blacklist.infrastructure.HostBlackListsDataSourceFacade;
 
 /**
  * Blacklist checker with multi-thread processing.
+ * The server range is split into segments that run on the
+ * {@link co.eci.blacklist.domain.execution.ExecutionStrategy} chosen in {@link Policies}.
  *
  * @author ARSW-PANDILLA-2025
  * @version 1.0
  */
-public class BlacklistChecker {
+public class BlacklistChecker implements AutoCloseable {
 
     private static final Logger logger = Logger.getLogger(BlacklistChecker.class.getName());
 
     private final HostBlackListsDataSourceFacade facade;
     private final Policies policies;
+    private final ScanExecutor executor;
 
     /**
      * Constructor of the BlacklistChecker class.
      *
      * @param facade Facade to access blacklist servers.
-     * @param policies Policy configuration including alarm threshold.
+     * @param policies Policy configuration including alarm threshold and execution strategy.
      */
     public BlacklistChecker(HostBlackListsDataSourceFacade facade, Policies policies) {
         this.facade = Objects.requireNonNull(facade, "Facade cannot be null");
         this.policies = Objects.requireNonNull(policies, "Policies cannot be null");
+        this.executor = policies.getStrategy().create(policies.getPoolSize());
+    }
+
+    /**
+     * Returns the name of the execution strategy in use.
+     *
+     * @return The strategy name, including the pool size where it applies.
+     */
+    public String getStrategyName() {
+        return executor.name();
+    }
+
+    /**
+     * Releases the threads of the execution strategy.
+     */
+    @Override
+    public void close() {
+        executor.close();
     }
 
     /**
@@ -41,8 +64,26 @@ public class BlacklistChecker {
      * @param ip The IP address to verify.
      * @param nThreads The number of threads to use for parallel processing.
      * @return Verification result with timing information.
+     * @throws IllegalArgumentException If {@code ip} is not an IPv4 or IPv6 literal.
      */
     public MatchResult checkHost(String ip, int nThreads) {
+        long[] key = new long[2];
+        if (!IpLiteral.parse(ip, key)) {
+            throw new IllegalArgumentException("Invalid IP address: " + ip);
+        }
+        return checkHost(ip, key[0], key[1], nThreads);
+    }
+
+    /**
+     * Checks an already parsed IP address; the segments look it up by its {@link IpLiteral} key.
+     *
+     * @param ip The IP address as received, used for reporting.
+     * @param ipHi The high 64 bits of the IP key.
+     * @param ipLo The low 64 bits of the IP key.
+     * @param nThreads The number of threads to use for parallel processing.
+     * @return Verification result with timing information.
+     */
+    public MatchResult checkHost(String ip, long ipHi, long ipLo, int nThreads) {
         int threshold = policies.getAlarmCount();
         int totalServers = facade.getRegisteredServersCount();
 
@@ -58,7 +99,7 @@ public class BlacklistChecker {
     int segmentSize = totalServers / threads;
     int remainder = totalServers % threads;
 
-    List<BlacklistWorkerThread> workers = new ArrayList<>(threads);
+    List<Callable<Boolean>> segments = new ArrayList<>(threads);
 
     int currentStart = 0;
     for (int i = 0; i < threads; i++) {
@@ -69,20 +110,16 @@ public class BlacklistChecker {
         if (startIdx >= totalServers) break;
         if (endIdx > totalServers) endIdx = totalServers;
 
-        BlacklistWorkerThread w = new BlacklistWorkerThread(
-            ip, startIdx, endIdx, facade,
-            matches, foundCount, checkedCount, stopFlag, threshold);
-        workers.add(w);
-        w.start();
+        segments.add(new SegmentScan(
+            ipHi, ipLo, startIdx, endIdx, facade,
+            matches, foundCount, checkedCount, stopFlag, threshold));
     }
 
-        for (Thread t : workers) {
-            try {
-                t.join();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                throw new RuntimeException("Interrupted while waiting worker threads", e);
-            }
+        try {
+            executor.runAll(segments);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting worker threads", e);
         }
 
         boolean trustworthy = foundCount.get() < threshold;
@@ -95,19 +132,24 @@ public class BlacklistChecker {
 
         long elapsed = System.currentTimeMillis() - startTime;
 
-        logger.log(Level.INFO, "Checked {0}/{1} servers. Found={2} EarlyStop={3}",
-                new Object[]{checkedCount.get(), totalServers, foundCount.get(), stopFlag.get()});
+        logger.log(Level.INFO, "Checked {0}/{1} servers. Found={2} EarlyStop={3} Strategy={4}",
+                new Object[]{checkedCount.get(), totalServers, foundCount.get(), stopFlag.get(), executor.name()});
 
         return new MatchResult(ip, trustworthy, List.copyOf(matches),
                 checkedCount.get(), totalServers, elapsed, threads);
     }
 
     /**
-     * Worker thread that processes a specific segment of blacklist servers.
+     * Scan of a specific segment of blacklist servers.
+     * Returns true when it pushed the match count to the alarm threshold.
      */
-    private static class BlacklistWorkerThread extends Thread {
-        
-        private final String ip;
+    private static class SegmentScan implements Callable<Boolean> {
+
+        /** Servers examined between two checks of the stop flag. */
+        private static final int BLOCK = 1024;
+
+        private final long ipHi;
+        private final long ipLo;
         private final int startIdx;
         private final int endIdx;
         private final HostBlackListsDataSourceFacade facade;
@@ -118,9 +160,10 @@ public class BlacklistChecker {
         private final int threshold;
 
         /**
-         * Constructor of the BlacklistWorkerThread class.
+         * Constructor of the SegmentScan class.
          *
-         * @param ip The target IP address to verify.
+         * @param ipHi The high 64 bits of the target IP key.
+         * @param ipLo The low 64 bits of the target IP key.
          * @param startIdx The initial server index.
          * @param endIdx The final server index.
          * @param facade The blacklist data source facade.
@@ -130,11 +173,12 @@ public class BlacklistChecker {
          * @param stop The shared stop flag.
          * @param threshold The alarm threshold for early stopping.
          */
-        public BlacklistWorkerThread(String ip, int startIdx, int endIdx,
+        public SegmentScan(long ipHi, long ipLo, int startIdx, int endIdx,
                 HostBlackListsDataSourceFacade facade,
                 List<Integer> matches, AtomicInteger found,
                 AtomicInteger checked, AtomicBoolean stop, int threshold) {
-            this.ip = ip;
+            this.ipHi = ipHi;
+            this.ipLo = ipLo;
             this.startIdx = startIdx;
             this.endIdx = endIdx;
             this.facade = facade;
@@ -147,22 +191,35 @@ public class BlacklistChecker {
 
         /**
          * Executes blacklist verification for the assigned server segment.
+         * Walks the segment in blocks of {@value #BLOCK} servers using the facade's bitmap
+         * range query, and between blocks checks the shared stop flag and the interrupt
+         * the strategy uses to cancel it.
+         *
+         * @return True if this segment reached the alarm threshold.
          */
         @Override
-        public void run() {
-            for (int idx = startIdx; idx < endIdx && !stop.get(); idx++) {
-
-                if (stop.get()) break;
-
-                if (facade.isInBlackListServer(idx, ip)) {
-                    matches.add(idx);
+        public Boolean call() {
+            int idx = startIdx;
+            while (idx < endIdx && !stop.get() && !Thread.currentThread().isInterrupted()) {
+                int blockEnd = Math.min(endIdx, idx + BLOCK);
+                int limit = Math.max(1, threshold - found.get());
+                int[] hits = facade.firstMatches(ipHi, ipLo, idx, blockEnd, limit);
+                for (int hit : hits) {
+                    checked.addAndGet(hit - idx);
+                    matches.add(hit);
                     if (found.incrementAndGet() >= threshold) {
                         stop.set(true);
-                        break;
+                        return true;
                     }
+                    checked.incrementAndGet();
+                    idx = hit + 1;
+                }
+                if (hits.length < limit) {
+                    checked.addAndGet(blockEnd - idx);
+                    idx = blockEnd;
                 }
-                checked.incrementAndGet();
             }
+            return false;
         }
     }
 }
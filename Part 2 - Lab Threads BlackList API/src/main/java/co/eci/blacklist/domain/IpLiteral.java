@@ -0,0 +1,216 @@
+package co.eci.blacklist.domain;
+
+/**
+ * Parser of IPv4 and IPv6 address literals into primitive keys.
+ * It never resolves host names and does not allocate: an IPv4 address is an {@code int}
+ * (returned as a non-negative {@code long}) and an IPv6 address is two {@code long}s written
+ * into a caller-provided array.
+ *
+ * <p>IPv4 literals are stored under their IPv4-mapped IPv6 key ({@code ::ffff:a.b.c.d}),
+ * so both families share one 128-bit key space.
+ *
+ * @author ARSW-PANDILLA-2025
+ * @version 1.0
+ */
+public final class IpLiteral {
+
+    /** Returned by {@link #parseIpv4} for input that is not a dotted-quad literal. */
+    public static final long INVALID = -1L;
+
+    private static final long IPV4_MAPPED_PREFIX = 0x0000_FFFF_0000_0000L;
+
+    private IpLiteral() {
+    }
+
+    /**
+     * Parses an IPv4 or IPv6 literal into its 128-bit key.
+     *
+     * @param ip The text to parse.
+     * @param key Receives the high and low 64 bits; may be null to only validate.
+     * @return True if {@code ip} is a valid literal.
+     */
+    public static boolean parse(CharSequence ip, long[] key) {
+        if (ip == null || ip.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < ip.length(); i++) {
+            if (ip.charAt(i) == ':') {
+                return parseIpv6(ip, key);
+            }
+        }
+        long v4 = parseIpv4(ip);
+        if (v4 == INVALID) {
+            return false;
+        }
+        if (key != null) {
+            key[0] = 0L;
+            key[1] = mapIpv4((int) v4);
+        }
+        return true;
+    }
+
+    /**
+     * Checks that the text is an IPv4 or IPv6 literal.
+     *
+     * @param ip The text to check.
+     * @return True if {@code ip} is a valid literal.
+     */
+    public static boolean isValid(CharSequence ip) {
+        return parse(ip, null);
+    }
+
+    /**
+     * Returns the low 64 bits of the IPv4-mapped key of an IPv4 address; the high 64 bits are zero.
+     *
+     * @param ipv4 The IPv4 address as an {@code int}.
+     * @return The low half of {@code ::ffff:ipv4}.
+     */
+    public static long mapIpv4(int ipv4) {
+        return IPV4_MAPPED_PREFIX | (ipv4 & 0xFFFF_FFFFL);
+    }
+
+    /**
+     * Parses a dotted-quad IPv4 literal. Leading zeros are rejected, as they are read
+     * as octal by some resolvers.
+     *
+     * @param ip The text to parse.
+     * @return The address in the low 32 bits, or {@link #INVALID}.
+     */
+    public static long parseIpv4(CharSequence ip) {
+        return ip == null ? INVALID : parseIpv4(ip, 0, ip.length());
+    }
+
+    /**
+     * Parses an IPv6 literal (RFC 4291 text forms: full, {@code ::}-compressed and with a
+     * trailing dotted quad). Zone indices are rejected.
+     *
+     * @param ip The text to parse.
+     * @param key Receives the high and low 64 bits; may be null to only validate.
+     * @return True if {@code ip} is a valid literal.
+     */
+    public static boolean parseIpv6(CharSequence ip, long[] key) {
+        int len = ip == null ? 0 : ip.length();
+        if (len < 2 || len > 45) {
+            return false;
+        }
+        long hi = 0L;
+        long lo = 0L; // groups before "::", placed from the top
+        long tailHi = 0L;
+        long tailLo = 0L; // groups after "::", shifted in from the bottom
+        int groups = 0;
+        boolean compressed = false;
+        int i = 0;
+        if (ip.charAt(0) == ':') {
+            if (ip.charAt(1) != ':') {
+                return false;
+            }
+            compressed = true;
+            i = 2;
+        }
+        while (i < len) {
+            int start = i;
+            int group = 0;
+            while (i < len && i - start < 5) {
+                int digit = hexDigit(ip.charAt(i));
+                if (digit < 0) {
+                    break;
+                }
+                group = group << 4 | digit;
+                i++;
+            }
+            if (i < len && ip.charAt(i) == '.') {
+                // trailing dotted quad: the last two groups
+                long v4 = parseIpv4(ip, start, len);
+                if (v4 == INVALID || groups > 6) {
+                    return false;
+                }
+                if (compressed) {
+                    tailHi = tailHi << 32 | tailLo >>> 32;
+                    tailLo = tailLo << 32 | v4;
+                } else {
+                    lo |= v4;
+                }
+                groups += 2;
+                break;
+            }
+            int digits = i - start;
+            if (digits == 0 || digits > 4 || groups == 8) {
+                return false;
+            }
+            if (compressed) {
+                tailHi = tailHi << 16 | tailLo >>> 48;
+                tailLo = tailLo << 16 | group;
+            } else if (groups < 4) {
+                hi |= (long) group << (48 - 16 * groups);
+            } else {
+                lo |= (long) group << (48 - 16 * (groups - 4));
+            }
+            groups++;
+            if (i == len) {
+                break;
+            }
+            if (ip.charAt(i) != ':' || ++i == len) {
+                return false;
+            }
+            if (ip.charAt(i) == ':') {
+                if (compressed) {
+                    return false;
+                }
+                compressed = true;
+                i++;
+            }
+        }
+        if (compressed ? groups > 7 : groups != 8) {
+            return false;
+        }
+        if (key != null) {
+            key[0] = hi | tailHi;
+            key[1] = lo | tailLo;
+        }
+        return true;
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static long parseIpv4(CharSequence ip, int from, int to) {
+        long value = 0L;
+        int parts = 0;
+        int i = from;
+        while (true) {
+            int start = i;
+            int octet = 0;
+            while (i < to && i - start < 4) {
+                char c = ip.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                octet = octet * 10 + (c - '0');
+                i++;
+            }
+            int digits = i - start;
+            if (digits == 0 || digits > 3 || octet > 255 || (digits > 1 && ip.charAt(start) == '0')) {
+                return INVALID;
+            }
+            value = value << 8 | octet;
+            parts++;
+            if (i == to) {
+                return parts == 4 ? value : INVALID;
+            }
+            if (ip.charAt(i) != '.' || parts == 4) {
+                return INVALID;
+            }
+            i++;
+        }
+    }
+}
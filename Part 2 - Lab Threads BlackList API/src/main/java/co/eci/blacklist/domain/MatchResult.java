@@ -11,7 +11,10 @@ import java.util.List;
  * @param checkedServers The actual number of servers checked.
  * @param totalServers   The total number of servers available for checking.
  * @param elapsedMs      The total execution time in milliseconds.
- * @param threads        The number of threads used for parallel processing.
+ * @param threads        The number of segments the scan was split into (one thread each
+ *                       with the thread-per-segment strategy).
+ * @param cached         True if the verdict was reused from an earlier check; this request
+ *                       then queried no servers ({@code checkedServers} and {@code elapsedMs} are 0).
  *
  * @author ARSW-PANDILLA-2025
  * @version 1.0
@@ -23,7 +26,24 @@ public record MatchResult(
                 int checkedServers,
                 int totalServers,
                 long elapsedMs,
-                int threads) {
+                int threads,
+                boolean cached) {
+        /**
+         * Creates the result of a scan that was actually run.
+         *
+         * @param ip             The IP address that was checked.
+         * @param trustworthy    True if the IP is considered trustworthy.
+         * @param matches        List of server indices where the IP was found.
+         * @param checkedServers The actual number of servers checked.
+         * @param totalServers   The total number of servers available for checking.
+         * @param elapsedMs      The total execution time in milliseconds.
+         * @param threads        The number of segments the scan was split into.
+         */
+        public MatchResult(String ip, boolean trustworthy, List<Integer> matches,
+                        int checkedServers, int totalServers, long elapsedMs, int threads) {
+                this(ip, trustworthy, matches, checkedServers, totalServers, elapsedMs, threads, false);
+        }
+
         /**
          * Constructor that validates parameters.
          */
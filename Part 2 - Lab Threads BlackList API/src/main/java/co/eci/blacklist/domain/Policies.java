@@ -1,7 +1,11 @@
 package co.eci.blacklist.domain;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import co.eci.blacklist.domain.execution.ExecutionStrategy;
+
 /**
  * Configuration policies for blacklist checking operations.
  *
@@ -17,6 +21,33 @@ public class Policies {
      */
     private int alarmCount = 5;
 
+    /**
+     * How the segments of a check are executed. Default value is BOUNDED_POOL.
+     */
+    private ExecutionStrategy strategy = ExecutionStrategy.BOUNDED_POOL;
+
+    /**
+     * Threads of the shared pools (BOUNDED_POOL, FORK_JOIN). 0 means one per
+     * available processor.
+     */
+    private int poolSize = 0;
+
+    /**
+     * Maximum number of verdicts kept by the service cache. 0 disables the cache.
+     */
+    private int cacheSize = 10_000;
+
+    /**
+     * How long a trustworthy verdict is reused. Kept short so a listing added
+     * outside this process is noticed soon.
+     */
+    private Duration cacheTrustworthyTtl = Duration.ofSeconds(30);
+
+    /**
+     * How long a not-trustworthy verdict is reused.
+     */
+    private Duration cacheNotTrustworthyTtl = Duration.ofMinutes(5);
+
     /**
      * Returns the current alarm count threshold.
      *
@@ -37,4 +68,110 @@ public class Policies {
         }
         this.alarmCount = alarmCount;
     }
-}
+
+    /**
+     * Returns the execution strategy for the segment scans.
+     *
+     * @return The configured strategy.
+     */
+    public ExecutionStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Sets the execution strategy for the segment scans.
+     *
+     * @param strategy The strategy to use.
+     */
+    public void setStrategy(ExecutionStrategy strategy) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy cannot be null");
+        }
+        this.strategy = strategy;
+    }
+
+    /**
+     * Returns the number of threads of the shared pools.
+     *
+     * @return The pool size; 0 means one per available processor.
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Sets the number of threads of the shared pools.
+     *
+     * @param poolSize The pool size; 0 means one per available processor.
+     */
+    public void setPoolSize(int poolSize) {
+        if (poolSize < 0) {
+            throw new IllegalArgumentException("Pool size cannot be negative");
+        }
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Returns the maximum number of cached verdicts.
+     *
+     * @return The cache size; 0 means the cache is disabled.
+     */
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
+    /**
+     * Sets the maximum number of cached verdicts.
+     *
+     * @param cacheSize The cache size; 0 disables the cache.
+     */
+    public void setCacheSize(int cacheSize) {
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("Cache size cannot be negative");
+        }
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * Returns how long a trustworthy verdict is reused.
+     *
+     * @return The time to live of trustworthy verdicts.
+     */
+    public Duration getCacheTrustworthyTtl() {
+        return cacheTrustworthyTtl;
+    }
+
+    /**
+     * Sets how long a trustworthy verdict is reused.
+     *
+     * @param ttl The time to live; zero does not cache trustworthy verdicts.
+     */
+    public void setCacheTrustworthyTtl(Duration ttl) {
+        this.cacheTrustworthyTtl = requireTtl(ttl);
+    }
+
+    /**
+     * Returns how long a not-trustworthy verdict is reused.
+     *
+     * @return The time to live of not-trustworthy verdicts.
+     */
+    public Duration getCacheNotTrustworthyTtl() {
+        return cacheNotTrustworthyTtl;
+    }
+
+    /**
+     * Sets how long a not-trustworthy verdict is reused.
+     *
+     * @param ttl The time to live; zero does not cache not-trustworthy verdicts.
+     */
+    public void setCacheNotTrustworthyTtl(Duration ttl) {
+        this.cacheNotTrustworthyTtl = requireTtl(ttl);
+    }
+
+    private static Duration requireTtl(Duration ttl) {
+        if (ttl == null || ttl.isNegative()) {
+            throw new IllegalArgumentException("Cache TTL cannot be null or negative");
+        }
+        return ttl;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package co.eci.blacklist.domain.execution;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * How {@code BlacklistChecker} runs the segment scans of a check. Selected with
+ * {@code blacklist.strategy}.
+ *
+ * @author ARSW-PANDILLA-2025
+ * @version 1.0
+ */
+public enum ExecutionStrategy {
+
+    /** New platform threads for every check (the original implementation). */
+    THREAD_PER_SEGMENT,
+
+    /**
+     * Shared fixed pool of {@code pool-size} threads with a bounded queue; when
+     * the queue is full the request thread runs the segment itself.
+     */
+    BOUNDED_POOL,
+
+    /**
+     * One virtual thread per segment. Requires a Java 21+ runtime; on older
+     * runtimes it falls back to a shared cached pool of platform threads.
+     */
+    VIRTUAL_THREADS,
+
+    /** Shared {@link ForkJoinPool} with {@code pool-size} parallelism. */
+    FORK_JOIN,
+
+    /**
+     * One structured scope per check that cancels the sibling segments as soon
+     * as the alarm threshold is reached. Runs on virtual threads when available.
+     */
+    STRUCTURED;
+
+    private static final Logger logger = Logger.getLogger(ExecutionStrategy.class.getName());
+
+    /** Queued segments per pool thread before the caller runs them itself. */
+    private static final int QUEUE_PER_THREAD = 64;
+
+    /**
+     * Creates the executor of this strategy.
+     *
+     * @param poolSize Threads of the shared pools; 0 or less means one per available processor.
+     * @return A new executor; the caller must close it.
+     */
+    public ScanExecutor create(int poolSize) {
+        int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        switch (this) {
+            case THREAD_PER_SEGMENT:
+                return new ThreadPerSegmentExecutor();
+            case BOUNDED_POOL:
+                ThreadPoolExecutor pool = new ThreadPoolExecutor(size, size, 30, TimeUnit.SECONDS,
+                        new ArrayBlockingQueue<>(size * QUEUE_PER_THREAD),
+                        daemonThreads("blacklist-pool-"), new ThreadPoolExecutor.CallerRunsPolicy());
+                pool.allowCoreThreadTimeOut(true); // idle checkers do not pin threads
+                return new PooledExecutor("bounded-pool(" + size + ")", pool);
+            case VIRTUAL_THREADS:
+                ExecutorService virtual = virtualThreadPerTask();
+                if (virtual == null) {
+                    logger.log(Level.WARNING, "Virtual threads need Java 21+ (running {0}); using a cached pool",
+                            Runtime.version().feature());
+                }
+                return new PooledExecutor(virtual != null ? "virtual-threads" : "virtual-threads(fallback: cached-pool)",
+                        virtual != null ? virtual : Executors.newCachedThreadPool(daemonThreads("blacklist-cached-")));
+            case FORK_JOIN:
+                return new PooledExecutor("fork-join(" + size + ")", new ForkJoinPool(size));
+            case STRUCTURED:
+                ExecutorService forks = virtualThreadPerTask();
+                return new StructuredScopeExecutor(
+                        forks != null ? forks : Executors.newCachedThreadPool(daemonThreads("blacklist-scope-")));
+            default:
+                throw new IllegalStateException("Unknown strategy " + this);
+        }
+    }
+
+    /**
+     * Returns {@code Executors.newVirtualThreadPerTaskExecutor()} when the runtime
+     * has it. Looked up reflectively because the project compiles for Java 17.
+     *
+     * @return The executor, or null on runtimes without virtual threads.
+     */
+    private static ExecutorService virtualThreadPerTask() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.log(Level.FINE, "Virtual threads not available on Java {0}", Runtime.version().feature());
+            return null;
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger n = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
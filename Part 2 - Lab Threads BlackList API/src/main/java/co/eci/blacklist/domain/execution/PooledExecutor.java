@@ -0,0 +1,57 @@
+package co.eci.blacklist.domain.execution;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Runs the segments of every check on one long-lived {@link ExecutorService}
+ * shared by all requests: a bounded pool, a virtual-thread-per-task executor or
+ * a {@code ForkJoinPool}.
+ *
+ * @author ARSW-PANDILLA-2025
+ * @version 1.0
+ */
+final class PooledExecutor implements ScanExecutor {
+
+    private final String name;
+    private final ExecutorService executor;
+
+    /**
+     * Constructor of the PooledExecutor class.
+     *
+     * @param name The strategy name.
+     * @param executor The shared executor; it is shut down by {@link #close()}.
+     */
+    PooledExecutor(String name, ExecutorService executor) {
+        this.name = name;
+        this.executor = executor;
+    }
+
+    @Override
+    public void runAll(List<Callable<Boolean>> tasks) throws InterruptedException {
+        List<Future<Boolean>> futures = executor.invokeAll(tasks); // returns when all are done
+        for (Future<Boolean> f : futures) {
+            try {
+                f.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Segment scan failed", e.getCause());
+            } catch (CancellationException e) {
+                // Only possible if the executor is shutting down.
+            }
+        }
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
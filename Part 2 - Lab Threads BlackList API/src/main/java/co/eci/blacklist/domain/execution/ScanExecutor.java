@@ -0,0 +1,40 @@
+package co.eci.blacklist.domain.execution;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Runs the segment scans of one blacklist check.
+ *
+ * <p>Each task scans a range of servers and returns {@code true} when it pushed
+ * the match count to the alarm threshold. Every strategy stops early through the
+ * shared stop flag of the check; a strategy may also use the return value to
+ * cancel the remaining tasks.
+ *
+ * @author ARSW-PANDILLA-2025
+ * @version 1.0
+ */
+public interface ScanExecutor extends AutoCloseable {
+
+    /**
+     * Runs all the tasks and returns once none of them is still running.
+     *
+     * @param tasks The segment scans of one check.
+     * @throws InterruptedException If the calling thread is interrupted while waiting.
+     * @throws IllegalStateException If a segment scan failed.
+     */
+    void runAll(List<Callable<Boolean>> tasks) throws InterruptedException;
+
+    /**
+     * Returns the strategy name used in logs and reports.
+     *
+     * @return The strategy name.
+     */
+    String name();
+
+    /**
+     * Releases the threads owned by this executor.
+     */
+    @Override
+    void close();
+}
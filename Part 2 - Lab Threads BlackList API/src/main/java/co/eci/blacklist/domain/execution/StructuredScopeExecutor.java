@@ -0,0 +1,103 @@
+package co.eci.blacklist.domain.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Structured-concurrency scope per check: the segments are forked as subtasks
+ * of the request, and the scope shuts down as soon as one of them reaches the
+ * alarm threshold or fails. Shutting down interrupts the siblings that are
+ * still scanning and cancels those that have not started. {@link #runAll}
+ * returns only after every subtask has finished, so no subtask outlives its
+ * check.
+ *
+ * <p>Same semantics as {@code StructuredTaskScope.ShutdownOnSuccess/OnFailure}
+ * (a preview API in Java 21), built on {@link ExecutorCompletionService} so it
+ * also runs on Java 17.
+ *
+ * @author ARSW-PANDILLA-2025
+ * @version 1.0
+ */
+final class StructuredScopeExecutor implements ScanExecutor {
+
+    private final ExecutorService executor;
+
+    /**
+     * Constructor of the StructuredScopeExecutor class.
+     *
+     * @param executor Runs the subtasks; it is shut down by {@link #close()}.
+     */
+    StructuredScopeExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void runAll(List<Callable<Boolean>> tasks) throws InterruptedException {
+        CompletionService<Boolean> scope = new ExecutorCompletionService<>(executor);
+        CountDownLatch finished = new CountDownLatch(tasks.size());
+        List<AtomicBoolean> claimed = new ArrayList<>(tasks.size());
+        List<Future<Boolean>> forks = new ArrayList<>(tasks.size());
+        for (Callable<Boolean> task : tasks) {
+            AtomicBoolean owner = new AtomicBoolean();
+            claimed.add(owner);
+            forks.add(scope.submit(() -> {
+                if (!owner.compareAndSet(false, true)) {
+                    return false; // the scope already shut down and accounted for this subtask
+                }
+                try {
+                    return task.call();
+                } finally {
+                    finished.countDown();
+                }
+            }));
+        }
+
+        Throwable failure = null;
+        try {
+            for (int i = 0; i < forks.size(); i++) {
+                try {
+                    if (scope.take().get()) {
+                        break; // alarm threshold reached: shut down the scope
+                    }
+                } catch (ExecutionException e) {
+                    failure = e.getCause();
+                    break;
+                } catch (CancellationException e) {
+                    // Cancelled by a shutdown in progress.
+                }
+            }
+        } finally {
+            for (Future<Boolean> f : forks) {
+                f.cancel(true);
+            }
+            for (AtomicBoolean owner : claimed) {
+                if (owner.compareAndSet(false, true)) {
+                    finished.countDown(); // never started and never will
+                }
+            }
+            finished.await(); // join: every subtask is done
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Segment scan failed", failure);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "structured";
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
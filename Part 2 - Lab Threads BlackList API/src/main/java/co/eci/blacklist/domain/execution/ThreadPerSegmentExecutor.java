@@ -0,0 +1,49 @@
+package co.eci.blacklist.domain.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Original behaviour: starts one new platform thread per segment on every check
+ * and joins them. Kept as the baseline of the strategy comparison.
+ *
+ * @author ARSW-PANDILLA-2025
+ * @version 1.0
+ */
+final class ThreadPerSegmentExecutor implements ScanExecutor {
+
+    @Override
+    public void runAll(List<Callable<Boolean>> tasks) throws InterruptedException {
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>(tasks.size());
+        for (Callable<Boolean> task : tasks) {
+            Thread t = new Thread(() -> {
+                try {
+                    task.call();
+                } catch (Exception e) {
+                    failure.compareAndSet(null, e);
+                }
+            });
+            threads.add(t);
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Segment scan failed", failure.get());
+        }
+    }
+
+    @Override
+    public String name() {
+        return "thread-per-segment";
+    }
+
+    @Override
+    public void close() {
+        // No threads outlive a check.
+    }
+}
@@ -1,16 +1,22 @@
 package co.eci.blacklist.infrastructure;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import co.eci.blacklist.domain.IpLiteral;
+
 /**
  * Simplified, thread-safe facade inspired by the ARSW lab.
  * In the original lab this class is provided and should not be modified.
  * Here we provide a minimal in-memory implementation suitable for the REST service and tests.
+ *
+ * <p>Each IP maps to a bitmap over the registered servers (bit {@code i} set when server
+ * {@code i} lists the IP), stored as an immutable {@code long[]} that writers replace
+ * copy-on-write, so lookups read a consistent snapshot without locking. IPs are keyed by
+ * their 128-bit {@link IpLiteral} key; the {@code String} overloads parse the literal first.
  */
 public final class HostBlackListsDataSourceFacade {
 
@@ -18,7 +24,8 @@ public final class HostBlackListsDataSourceFacade {
     private static final HostBlackListsDataSourceFacade INSTANCE = new HostBlackListsDataSourceFacade();
 
     private final int registeredServersCount;
-    private final ConcurrentMap<String, Set<Integer>> blacklistedByIp = new ConcurrentHashMap<>();
+    private final IpBitmapTable blacklistedByIp = new IpBitmapTable();
+    private final AtomicLong writes = new AtomicLong();
 
     private HostBlackListsDataSourceFacade() {
         this.registeredServersCount = 10_000;
@@ -54,8 +61,86 @@ public final class HostBlackListsDataSourceFacade {
      * @return True if the IP is blacklisted on the server, false otherwise.
      */
     public boolean isInBlackListServer(int serverIndex, String ip) {
-        Set<Integer> set = blacklistedByIp.get(ip);
-        return set != null && set.contains(serverIndex);
+        return contains(bitmap(ip), serverIndex);
+    }
+
+    /**
+     * Checks if the IP with the given key is blacklisted on the specified server.
+     *
+     * @param serverIndex The index of the server to check.
+     * @param ipHi The high 64 bits of the IP key.
+     * @param ipLo The low 64 bits of the IP key.
+     * @return True if the IP is blacklisted on the server, false otherwise.
+     */
+    public boolean isInBlackListServer(int serverIndex, long ipHi, long ipLo) {
+        return contains(blacklistedByIp.get(ipHi, ipLo), serverIndex);
+    }
+
+    private boolean contains(long[] words, int serverIndex) {
+        return words != null && serverIndex >= 0 && serverIndex < registeredServersCount
+                && (words[serverIndex >>> 6] & (1L << serverIndex)) != 0;
+    }
+
+    /**
+     * Returns, in ascending order, the first servers in {@code [from, to)} that list the IP.
+     * Scans the bitmap a word (64 servers) at a time.
+     *
+     * @param ip The IP address to verify.
+     * @param from The first server index, inclusive.
+     * @param to The last server index, exclusive.
+     * @param limit The maximum number of indices to return.
+     * @return Up to {@code limit} server indices, or an empty array if there are none.
+     */
+    public int[] firstMatches(String ip, int from, int to, int limit) {
+        return firstMatches(bitmap(ip), from, to, limit);
+    }
+
+    /**
+     * Returns, in ascending order, the first servers in {@code [from, to)} that list the IP
+     * with the given key.
+     *
+     * @param ipHi The high 64 bits of the IP key.
+     * @param ipLo The low 64 bits of the IP key.
+     * @param from The first server index, inclusive.
+     * @param to The last server index, exclusive.
+     * @param limit The maximum number of indices to return.
+     * @return Up to {@code limit} server indices, or an empty array if there are none.
+     */
+    public int[] firstMatches(long ipHi, long ipLo, int from, int to, int limit) {
+        return firstMatches(blacklistedByIp.get(ipHi, ipLo), from, to, limit);
+    }
+
+    private int[] firstMatches(long[] words, int from, int to, int limit) {
+        if (from < 0 || to > registeredServersCount || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") outside [0, "
+                    + registeredServersCount + ")");
+        }
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+        if (words == null || from == to || limit == 0) {
+            return new int[0];
+        }
+        int[] found = new int[Math.min(limit, Math.min(to - from, 16))];
+        int n = 0;
+        int last = (to - 1) >>> 6;
+        for (int w = from >>> 6; w <= last && n < limit; w++) {
+            long word = words[w];
+            if (w == from >>> 6) {
+                word &= -1L << from; // drop servers before 'from'
+            }
+            if (w == last) {
+                word &= -1L >>> -to; // drop servers from 'to' on
+            }
+            while (word != 0 && n < limit) {
+                if (n == found.length) {
+                    found = Arrays.copyOf(found, Math.min(limit, n * 2));
+                }
+                found[n++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return n == found.length ? found : Arrays.copyOf(found, n);
     }
 
     /**
@@ -82,17 +167,87 @@ public final class HostBlackListsDataSourceFacade {
      *
      * @param ip The IP address to seed.
      * @param indices The server indices where the IP is blacklisted.
+     * @throws IllegalArgumentException If the IP is not a literal or an index is not a registered server.
      */
     public void seed(String ip, List<Integer> indices) {
-        blacklistedByIp.computeIfAbsent(ip, k -> ConcurrentHashMap.newKeySet()).addAll(indices);
+        long[] key = key(ip);
+        seed(key[0], key[1], indices);
+    }
+
+    /**
+     * Seeds the facade with blacklist data for the IP with the given key.
+     *
+     * @param ipHi The high 64 bits of the IP key.
+     * @param ipLo The low 64 bits of the IP key.
+     * @param indices The server indices where the IP is blacklisted.
+     * @throws IllegalArgumentException If an index is not a registered server.
+     */
+    public void seed(long ipHi, long ipLo, List<Integer> indices) {
+        for (int idx : indices) {
+            if (idx < 0 || idx >= registeredServersCount) {
+                throw new IllegalArgumentException("Server index out of range: " + idx);
+            }
+        }
+        blacklistedByIp.update(ipHi, ipLo, writes.incrementAndGet(), old -> {
+            long[] words = old == null
+                    ? new long[(registeredServersCount + 63) >>> 6]
+                    : old.clone();
+            for (int idx : indices) {
+                words[idx >>> 6] |= 1L << idx;
+            }
+            return words;
+        });
     }
 
     /**
      * Clears the blacklist data for the given IP address.
      *
      * @param ip The IP address to clear.
+     * @throws IllegalArgumentException If the IP is not a literal.
      */
     public void clear(String ip) {
-        blacklistedByIp.remove(ip);
+        long[] key = key(ip);
+        clear(key[0], key[1]);
+    }
+
+    /**
+     * Clears the blacklist data for the IP with the given key.
+     *
+     * @param ipHi The high 64 bits of the IP key.
+     * @param ipLo The low 64 bits of the IP key.
+     */
+    public void clear(long ipHi, long ipLo) {
+        blacklistedByIp.update(ipHi, ipLo, writes.incrementAndGet(), old -> null);
+    }
+
+    /**
+     * Returns the version of the listings of the IP with the given key. It changes every time
+     * {@code seed} or {@code clear} changes them, so a verdict computed at one version is still
+     * valid while the version is the same. An IP with no listings has version 0.
+     *
+     * @param ipHi The high 64 bits of the IP key.
+     * @param ipLo The low 64 bits of the IP key.
+     * @return The current version.
+     */
+    public long version(long ipHi, long ipLo) {
+        return blacklistedByIp.version(ipHi, ipLo);
+    }
+
+    /** Bitmap of a textual IP; IPv4 literals are looked up without allocating a key array. */
+    private long[] bitmap(String ip) {
+        long v4 = IpLiteral.parseIpv4(ip);
+        if (v4 != IpLiteral.INVALID) {
+            return blacklistedByIp.get(0L, IpLiteral.mapIpv4((int) v4));
+        }
+        long[] key = new long[2];
+        return IpLiteral.parseIpv6(ip, key) ? blacklistedByIp.get(key[0], key[1]) : null;
+    }
+
+    private static long[] key(String ip) {
+        long[] key = new long[2];
+        if (!IpLiteral.parse(ip, key)) {
+            throw new IllegalArgumentException("Invalid IP address: " + ip);
+        }
+        return key;
     }
 }
@@ -0,0 +1,141 @@
+package co.eci.blacklist.infrastructure;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Open-addressing hash table from a 128-bit IP key (two {@code long}s) to a server bitmap.
+ * Lookups hash the primitive key directly, with no boxing and no string hashing.
+ *
+ * <p>Writes are rare (seeding), so every write builds a new table and publishes it through a
+ * volatile field; readers probe whatever table they see without locking. Each entry also
+ * carries the version stamp of the write that stored it.
+ *
+ * @author ARSW-PANDILLA-2025
+ * @version 1.0
+ */
+final class IpBitmapTable {
+
+    private static final int MIN_CAPACITY = 16;
+
+    /** Immutable snapshot: keys at {@code 2*slot} and {@code 2*slot+1}, empty slots have a null bitmap. */
+    private static final class Table {
+        final long[] keys;
+        final long[][] bitmaps;
+        final long[] versions;
+        final int mask;
+        final int size;
+
+        Table(int capacity, int size) {
+            this.keys = new long[capacity * 2];
+            this.bitmaps = new long[capacity][];
+            this.versions = new long[capacity];
+            this.mask = capacity - 1;
+            this.size = size;
+        }
+    }
+
+    private volatile Table table = new Table(MIN_CAPACITY, 0);
+
+    /**
+     * Returns the bitmap stored for the key.
+     *
+     * @param hi The high 64 bits of the key.
+     * @param lo The low 64 bits of the key.
+     * @return The bitmap, or null if the key is absent.
+     */
+    long[] get(long hi, long lo) {
+        Table t = table;
+        int slot = find(t, hi, lo);
+        return slot < 0 ? null : t.bitmaps[slot];
+    }
+
+    /**
+     * Returns the version stamp of the write that stored the key's bitmap.
+     *
+     * @param hi The high 64 bits of the key.
+     * @param lo The low 64 bits of the key.
+     * @return The stamp, or 0 if the key is absent.
+     */
+    long version(long hi, long lo) {
+        Table t = table;
+        int slot = find(t, hi, lo);
+        return slot < 0 ? 0L : t.versions[slot];
+    }
+
+    /**
+     * Replaces the bitmap of the key with {@code update.apply(current)}; a null result removes it.
+     * The function receives null when the key is absent and must not modify its argument.
+     *
+     * @param hi The high 64 bits of the key.
+     * @param lo The low 64 bits of the key.
+     * @param version The stamp stored with the new bitmap.
+     * @param update Computes the new bitmap from the current one.
+     * @return True if the bitmap changed.
+     */
+    synchronized boolean update(long hi, long lo, long version, UnaryOperator<long[]> update) {
+        Table old = table;
+        long[] current = get(hi, lo);
+        long[] next = update.apply(current);
+        if (next == current) {
+            return false;
+        }
+        int size = old.size + (current == null ? 1 : 0) - (next == null ? 1 : 0);
+        int capacity = MIN_CAPACITY;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+        Table t = new Table(capacity, size);
+        for (int slot = 0; slot < old.bitmaps.length; slot++) {
+            long[] bitmap = old.bitmaps[slot];
+            long kHi = old.keys[2 * slot];
+            long kLo = old.keys[2 * slot + 1];
+            if (bitmap != null && (kHi != hi || kLo != lo)) {
+                insert(t, kHi, kLo, bitmap, old.versions[slot]);
+            }
+        }
+        if (next != null) {
+            insert(t, hi, lo, next, version);
+        }
+        table = t;
+        return true;
+    }
+
+    /**
+     * Returns the number of keys.
+     *
+     * @return The number of IPs with a bitmap.
+     */
+    int size() {
+        return table.size;
+    }
+
+    private static int find(Table t, long hi, long lo) {
+        for (int slot = hash(hi, lo) & t.mask; ; slot = (slot + 1) & t.mask) {
+            if (t.bitmaps[slot] == null) {
+                return -1;
+            }
+            if (t.keys[2 * slot] == hi && t.keys[2 * slot + 1] == lo) {
+                return slot;
+            }
+        }
+    }
+
+    private static void insert(Table t, long hi, long lo, long[] bitmap, long version) {
+        int slot = hash(hi, lo) & t.mask;
+        while (t.bitmaps[slot] != null) {
+            slot = (slot + 1) & t.mask;
+        }
+        t.keys[2 * slot] = hi;
+        t.keys[2 * slot + 1] = lo;
+        t.bitmaps[slot] = bitmap;
+        t.versions[slot] = version;
+    }
+
+    private static int hash(long hi, long lo) {
+        long h = hi * 0x9E37_79B9_7F4A_7C15L ^ lo;
+        h ^= h >>> 33;
+        h *= 0xFF51_AFD7_ED55_8CCDL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.web.servlet.MockMvc;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import co.eci.blacklist.BlacklistApiApplication;
@@ -47,4 +48,32 @@ class BlacklistControllerTest {
                         .param("ip", "999.999.999.999"))
                 .andExpect(status().isBadRequest());
     }
+
+    /**
+     * Test 5.3: Tests the blacklist check endpoint with compressed IPv6 literals.
+     * Expects a 200 OK response.
+     */
+    @Test
+    void test5_3_shouldReturn200ForIPv6() throws Exception {
+        mockMvc.perform(get("/api/v1/blacklist/check")
+                        .param("ip", "::1")
+                        .param("threads", "2"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/blacklist/check")
+                        .param("ip", "::ffff:200.24.34.55")
+                        .param("threads", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.trustworthy").value(false));
+    }
+
+    /**
+     * Test 5.4: Tests the blacklist check endpoint with a host name.
+     * Expects a 400 Bad Request response (names are not resolved).
+     */
+    @Test
+    void test5_4_shouldReturn400ForHostName() throws Exception {
+        mockMvc.perform(get("/api/v1/blacklist/check")
+                        .param("ip", "localhost"))
+                .andExpect(status().isBadRequest());
+    }
 }
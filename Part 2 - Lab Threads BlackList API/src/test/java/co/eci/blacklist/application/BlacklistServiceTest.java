@@ -0,0 +1,146 @@
+package co.eci.blacklist.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import co.eci.blacklist.domain.BlacklistChecker;
+import co.eci.blacklist.domain.IpLiteral;
+import co.eci.blacklist.domain.MatchResult;
+import co.eci.blacklist.domain.Policies;
+import co.eci.blacklist.infrastructure.HostBlackListsDataSourceFacade;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Test 9 - Verdict cache of the blacklist service.
+ *
+ * @author ARSW-PANDILLA-2025
+ * @version 1.0
+ */
+class BlacklistServiceTest {
+
+    private static final String IP = "10.9.0.1";
+
+    private final HostBlackListsDataSourceFacade facade = HostBlackListsDataSourceFacade.getInstance();
+    private final AtomicLong now = new AtomicLong();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private BlacklistChecker checker;
+    private BlacklistService service;
+
+    @BeforeEach
+    void setUp() {
+        Policies policies = new Policies();
+        policies.setCacheSize(2);
+        policies.setCacheTrustworthyTtl(Duration.ofSeconds(10));
+        policies.setCacheNotTrustworthyTtl(Duration.ofMinutes(10));
+        checker = new BlacklistChecker(facade, policies);
+        service = new BlacklistService(checker, facade, policies, registry, now::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        facade.clear(IP);
+        checker.close();
+    }
+
+    private MatchResult check(String ip) {
+        return check(ip, 2);
+    }
+
+    private MatchResult check(String ip, int threads) {
+        long[] key = new long[2];
+        assertTrue(IpLiteral.parse(ip, key));
+        return service.check(ip, key[0], key[1], threads);
+    }
+
+    private double count(String name, String result) {
+        return result == null
+                ? registry.get(name).counter().count()
+                : registry.get(name).tag("result", result).counter().count();
+    }
+
+    /**
+     * Test 9.1: A repeated check is served from the cache until its TTL, which depends on the verdict.
+     */
+    @Test
+    void test9_1_hitsUntilTheVerdictTtl() {
+        MatchResult first = check(IP);
+        assertTrue(first.trustworthy());
+        assertFalse(first.cached());
+        assertTrue(check(IP).cached());
+        assertEquals(1, count("cache.gets", "hit"));
+        assertEquals(1, count("cache.gets", "miss"));
+
+        now.addAndGet(Duration.ofSeconds(11).toNanos()); // trustworthy TTL passed
+        assertFalse(check(IP).cached());
+        assertEquals(2, count("cache.gets", "miss"));
+
+        MatchResult bad = check("200.24.34.55");
+        assertFalse(bad.trustworthy());
+        now.addAndGet(Duration.ofMinutes(5).toNanos()); // still within the not-trustworthy TTL
+        assertTrue(check("200.24.34.55").cached());
+    }
+
+    /**
+     * Test 9.2: Seeding or clearing the IP invalidates its cached verdict.
+     */
+    @Test
+    void test9_2_writesInvalidate() {
+        assertTrue(check(IP).trustworthy());
+        facade.seed(IP, List.of(1, 2, 3, 4, 5));
+        assertFalse(check(IP).trustworthy(), "Seed bumps the version of the IP");
+        facade.clear(IP);
+        assertTrue(check(IP).trustworthy(), "Clear bumps it again");
+        assertEquals(3, count("cache.gets", "miss"));
+        assertEquals(0, count("cache.gets", "hit"));
+    }
+
+    /**
+     * Test 9.3: The least recently used verdict is evicted when the cache is full; spellings
+     * of the same address share an entry but keep their own text.
+     */
+    @Test
+    void test9_3_lruEvictionAndSharedKeys() {
+        check(IP);
+        check("200.24.34.55");
+        check(IP); // IP is now the most recently used
+        check("212.24.24.55"); // evicts 200.24.34.55
+        assertEquals(1, count("cache.evictions", null));
+        assertEquals(2, service.cacheSize());
+
+        MatchResult mapped = check("::ffff:" + IP);
+        assertEquals("::ffff:" + IP, mapped.ip());
+        assertEquals(2, count("cache.gets", "hit"));
+        check("200.24.34.55");
+        assertEquals(4, count("cache.gets", "miss"));
+    }
+
+    /**
+     * Test 9.4: A hit with a different thread count reports the request's threads and no scan,
+     * so it is never taken for a timing of that configuration.
+     */
+    @Test
+    void test9_4_hitReportsTheRequestNotTheCachedScan() {
+        MatchResult scan = check("202.24.34.55", 1);
+        assertFalse(scan.cached());
+        assertEquals(1, scan.threads());
+
+        for (int threads : new int[]{6, 100}) {
+            MatchResult hit = check("202.24.34.55", threads);
+            assertTrue(hit.cached());
+            assertEquals(threads, hit.threads());
+            assertEquals(0, hit.checkedServers());
+            assertEquals(0L, hit.elapsedMs());
+            assertEquals(scan.trustworthy(), hit.trustworthy());
+            assertEquals(scan.matches(), hit.matches());
+        }
+    }
+}
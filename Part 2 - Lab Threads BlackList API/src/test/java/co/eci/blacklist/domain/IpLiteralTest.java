@@ -0,0 +1,97 @@
+package co.eci.blacklist.domain;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test 8 - IP literal parser used on the check path.
+ *
+ * @author ARSW-PANDILLA-2025
+ * @version 1.0
+ */
+class IpLiteralTest {
+
+    /**
+     * Test 8.1: IPv4 literals parse to their 32-bit value and map into ::ffff:0:0/96.
+     */
+    @Test
+    void test8_1_ipv4() {
+        assertEquals(0xC818_2237L, IpLiteral.parseIpv4("200.24.34.55"));
+        assertEquals(0L, IpLiteral.parseIpv4("0.0.0.0"));
+        assertEquals(0xFFFF_FFFFL, IpLiteral.parseIpv4("255.255.255.255"));
+
+        long[] key = new long[2];
+        assertTrue(IpLiteral.parse("200.24.34.55", key));
+        assertArrayEquals(new long[]{0L, 0x0000_FFFF_C818_2237L}, key);
+
+        long[] mapped = new long[2];
+        assertTrue(IpLiteral.parse("::ffff:200.24.34.55", mapped));
+        assertArrayEquals(key, mapped, "IPv4 and its IPv4-mapped IPv6 form are the same host");
+    }
+
+    /**
+     * Test 8.2: IPv6 literals in every text form agree with the JDK parser.
+     */
+    @Test
+    void test8_2_ipv6MatchesJdk() throws Exception {
+        String[] literals = {"::", "::1", "1::", "2001:db8::8:800:200c:417a", "fe80::1:2",
+            "2001:DB8:0:0:8:800:200C:417A", "ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff",
+            "::13.1.68.3", "0:0:0:0:0:0:13.1.68.3", "1:2:3:4:5:6:7::", "::2:3:4:5:6:7:8"};
+        for (String literal : literals) {
+            assertKeyMatchesJdk(literal);
+        }
+        Random random = new Random(7);
+        for (int n = 0; n < 2_000; n++) {
+            StringBuilder sb = new StringBuilder();
+            int zeroRun = random.nextInt(9); // compress a run starting here, 8 = none
+            int runLength = 1 + random.nextInt(3);
+            for (int g = 0; g < 8; g++) {
+                if (g == zeroRun) {
+                    sb.append("::");
+                    g += runLength - 1;
+                    continue;
+                }
+                if (sb.length() > 0 && sb.charAt(sb.length() - 1) != ':') {
+                    sb.append(':');
+                }
+                sb.append(Integer.toHexString(random.nextInt(0x10000)));
+            }
+            assertKeyMatchesJdk(sb.toString());
+        }
+    }
+
+    /**
+     * Test 8.3: Anything that is not a literal is rejected without resolving it.
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {"", "localhost", "example.com", "999.999.999.999", "1.2.3", "1.2.3.4.5",
+        "01.2.3.4", "1.2.3.", ".1.2.3", "1..2.3", "1.2.3.4 ", "1:2:3:4:5:6:7", "1:2:3:4:5:6:7:8:9",
+        ":1", "1:", "1:::2", "1::2::3", "12345::", "g::", "fe80::1%eth0", "::1.2.3", "1:2:3:4:5:6:7:1.2.3.4",
+        "::ffff:256.1.1.1", "١.2.3.4"})
+    void test8_3_rejectsNonLiterals(String text) {
+        assertFalse(IpLiteral.isValid(text), text);
+    }
+
+    private static void assertKeyMatchesJdk(String literal) throws Exception {
+        long[] key = new long[2];
+        assertTrue(IpLiteral.parseIpv6(literal, key), literal);
+        byte[] bytes = InetAddress.getByName(literal).getAddress();
+        ByteBuffer expected = ByteBuffer.allocate(16);
+        if (bytes.length == 4) { // the JDK folds IPv4-mapped addresses to IPv4
+            expected.putLong(0L).putInt(0xFFFF).put(bytes);
+        } else {
+            expected.put(bytes);
+        }
+        assertArrayEquals(new long[]{expected.getLong(0), expected.getLong(8)}, key, literal);
+    }
+}
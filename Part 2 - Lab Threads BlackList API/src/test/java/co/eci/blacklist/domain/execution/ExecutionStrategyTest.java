@@ -0,0 +1,139 @@
+package co.eci.blacklist.domain.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import co.eci.blacklist.domain.BlacklistChecker;
+import co.eci.blacklist.domain.MatchResult;
+import co.eci.blacklist.domain.Policies;
+import co.eci.blacklist.infrastructure.HostBlackListsDataSourceFacade;
+
+/**
+ * Test 6 - Every execution strategy gives the same verdicts as the original
+ * thread-per-segment implementation.
+ *
+ * @author ARSW-PANDILLA-2025
+ * @version 1.0
+ */
+class ExecutionStrategyTest {
+
+    private static BlacklistChecker checker(ExecutionStrategy strategy, int alarmCount) {
+        Policies policies = new Policies();
+        policies.setAlarmCount(alarmCount);
+        policies.setStrategy(strategy);
+        policies.setPoolSize(4);
+        return new BlacklistChecker(HostBlackListsDataSourceFacade.getInstance(), policies);
+    }
+
+    /**
+     * Test 6.1: Concentrated IP -> not trustworthy with early stop; clean IP -> full scan.
+     */
+    @ParameterizedTest
+    @EnumSource(ExecutionStrategy.class)
+    void test6_1_sameVerdictsOnEveryStrategy(ExecutionStrategy strategy) {
+        try (BlacklistChecker checker = checker(strategy, 5)) {
+            MatchResult bad = checker.checkHost("200.24.34.55", 8);
+            assertFalse(bad.trustworthy());
+            assertTrue(bad.matches().size() >= 5);
+            assertTrue(bad.checkedServers() < bad.totalServers(), "Should stop early");
+
+            MatchResult dispersed = checker.checkHost("202.24.34.55", 8);
+            assertFalse(dispersed.trustworthy());
+
+            MatchResult clean = checker.checkHost("212.24.24.55", 8);
+            assertTrue(clean.trustworthy());
+            assertEquals(clean.totalServers(), clean.checkedServers(), "Clean IP scans every server");
+        }
+    }
+
+    /**
+     * Test 6.2: The same checker serves concurrent requests.
+     */
+    @ParameterizedTest
+    @EnumSource(ExecutionStrategy.class)
+    void test6_2_concurrentRequestsShareTheExecutor(ExecutionStrategy strategy) throws Exception {
+        try (BlacklistChecker checker = checker(strategy, 5)) {
+            List<Thread> clients = new ArrayList<>();
+            AtomicInteger wrong = new AtomicInteger();
+            for (int i = 0; i < 8; i++) {
+                Thread t = new Thread(() -> {
+                    for (int r = 0; r < 10; r++) {
+                        if (checker.checkHost("200.24.34.55", 4).trustworthy()
+                                || !checker.checkHost("212.24.24.55", 4).trustworthy()) {
+                            wrong.incrementAndGet();
+                        }
+                    }
+                });
+                clients.add(t);
+                t.start();
+            }
+            for (Thread t : clients) {
+                t.join();
+            }
+            assertEquals(0, wrong.get());
+        }
+    }
+
+    /**
+     * Test 6.3: The structured scope cancels the siblings once a subtask reaches the
+     * threshold, and returns only after all of them finished.
+     */
+    @ParameterizedTest
+    @EnumSource(value = ExecutionStrategy.class, names = "STRUCTURED")
+    void test6_3_structuredScopeCancelsSiblings(ExecutionStrategy strategy) throws Exception {
+        AtomicInteger interrupted = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(3);
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            tasks.add(() -> {
+                running.incrementAndGet();
+                started.countDown();
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) {
+                    interrupted.incrementAndGet();
+                } finally {
+                    running.decrementAndGet();
+                }
+                return false;
+            });
+        }
+        tasks.add(() -> {
+            started.await();
+            return true; // alarm reached
+        });
+        try (ScanExecutor executor = strategy.create(8)) {
+            long t0 = System.nanoTime();
+            executor.runAll(tasks);
+            assertTrue(System.nanoTime() - t0 < 10_000_000_000L, "Siblings should be cancelled, not awaited");
+        }
+        assertEquals(3, interrupted.get());
+        assertEquals(0, running.get(), "No subtask outlives the scope");
+    }
+
+    /**
+     * Test 6.4: A failing segment is reported to the caller.
+     */
+    @ParameterizedTest
+    @EnumSource(ExecutionStrategy.class)
+    void test6_4_failuresPropagate(ExecutionStrategy strategy) {
+        try (ScanExecutor executor = strategy.create(2)) {
+            List<Callable<Boolean>> tasks = List.of(() -> false, () -> {
+                throw new IllegalArgumentException("boom");
+            });
+            assertThrows(IllegalStateException.class, () -> executor.runAll(tasks));
+        }
+    }
+}
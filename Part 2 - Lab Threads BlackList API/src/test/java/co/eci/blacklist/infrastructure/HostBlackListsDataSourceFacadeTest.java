@@ -0,0 +1,113 @@
+package co.eci.blacklist.infrastructure;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test 7 - Bitmap index of the blacklist facade.
+ *
+ * @author ARSW-PANDILLA-2025
+ * @version 1.0
+ */
+class HostBlackListsDataSourceFacadeTest {
+
+    private static final String IP = "10.7.0.1";
+
+    private final HostBlackListsDataSourceFacade facade = HostBlackListsDataSourceFacade.getInstance();
+
+    @AfterEach
+    void tearDown() {
+        facade.clear(IP);
+    }
+
+    /**
+     * Test 7.1: The range query agrees with a server-by-server lookup, including ranges
+     * that start and end inside a word.
+     */
+    @Test
+    void test7_1_rangeQueryMatchesPointLookups() {
+        Random random = new Random(42);
+        List<Integer> seeded = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            seeded.add(random.nextInt(facade.getRegisteredServersCount()));
+        }
+        seeded.addAll(List.of(0, 63, 64, 127, 9_999));
+        facade.seed(IP, seeded);
+
+        int servers = facade.getRegisteredServersCount();
+        int[][] ranges = {{0, servers}, {1, 64}, {63, 65}, {100, 101}, {5_000, 5_000}, {9_990, servers}};
+        for (int[] r : ranges) {
+            List<Integer> expected = new ArrayList<>();
+            for (int i = r[0]; i < r[1]; i++) {
+                if (facade.isInBlackListServer(i, IP)) {
+                    expected.add(i);
+                }
+            }
+            int[] actual = facade.firstMatches(IP, r[0], r[1], Integer.MAX_VALUE);
+            assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual,
+                    "Range [" + r[0] + ", " + r[1] + ")");
+        }
+    }
+
+    /**
+     * Test 7.2: The limit returns the lowest indices; unknown IPs have no matches.
+     */
+    @Test
+    void test7_2_limitAndUnknownIp() {
+        facade.seed(IP, List.of(700, 3, 64, 65, 2_000));
+        assertArrayEquals(new int[]{3, 64, 65}, facade.firstMatches(IP, 0, 10_000, 3));
+        assertArrayEquals(new int[]{64}, facade.firstMatches(IP, 4, 65, 10));
+        assertEquals(0, facade.firstMatches(IP, 0, 10_000, 0).length);
+        assertEquals(0, facade.firstMatches("10.7.0.2", 0, 10_000, 5).length);
+    }
+
+    /**
+     * Test 7.3: Seeding accumulates, clearing removes, bad indices and ranges are rejected.
+     */
+    @Test
+    void test7_3_seedClearAndBounds() {
+        facade.seed(IP, List.of(1));
+        facade.seed(IP, List.of(2));
+        assertArrayEquals(new int[]{1, 2}, facade.firstMatches(IP, 0, 10_000, 10));
+
+        facade.clear(IP);
+        assertEquals(0, facade.firstMatches(IP, 0, 10_000, 10).length);
+
+        assertThrows(IllegalArgumentException.class, () -> facade.seed(IP, List.of(10_000)));
+        assertThrows(IndexOutOfBoundsException.class, () -> facade.firstMatches(IP, 0, 10_001, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> facade.firstMatches(IP, 5, 4, 1));
+    }
+
+    /**
+     * Test 7.4: IPv4 and IPv6 keys share one table, which grows and shrinks as IPs are
+     * seeded and cleared.
+     */
+    @Test
+    void test7_4_primitiveKeysAcrossFamilies() {
+        facade.seed("::ffff:" + IP, List.of(42));
+        assertTrue(facade.isInBlackListServer(42, IP), "IPv4-mapped form is the same host");
+
+        for (int i = 0; i < 500; i++) {
+            facade.seed(0x2001_0db8_0000_0000L, i, List.of(i));
+        }
+        for (int i = 0; i < 500; i++) {
+            assertArrayEquals(new int[]{i}, facade.firstMatches(0x2001_0db8_0000_0000L, i, 0, 10_000, 5));
+        }
+        assertTrue(facade.isInBlackListServer(7, "2001:db8::7"));
+        for (int i = 0; i < 500; i++) {
+            facade.clear(0x2001_0db8_0000_0000L, i);
+        }
+        assertFalse(facade.isInBlackListServer(7, "2001:db8::7"));
+        assertTrue(facade.isInBlackListServer(42, IP));
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import co.eci.blacklist.domain.BlacklistChecker;
 import co.eci.blacklist.domain.MatchResult;
 import co.eci.blacklist.domain.Policies;
+import co.eci.blacklist.domain.execution.ExecutionStrategy;
 import co.eci.blacklist.infrastructure.HostBlackListsDataSourceFacade;
 
 /**
@@ -34,6 +35,7 @@ public class Test3SpecificIPsTest {
 
                 Policies policies = new Policies();
                 policies.setAlarmCount(BLACK_LIST_ALARM_COUNT);
+                policies.setStrategy(ExecutionStrategy.THREAD_PER_SEGMENT);
 
                 checker = new BlacklistChecker(facade, policies);
         }
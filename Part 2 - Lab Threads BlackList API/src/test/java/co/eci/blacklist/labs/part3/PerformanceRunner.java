@@ -6,6 +6,7 @@ import java.util.Map;
 import co.eci.blacklist.domain.BlacklistChecker;
 import co.eci.blacklist.domain.MatchResult;
 import co.eci.blacklist.domain.Policies;
+import co.eci.blacklist.domain.execution.ExecutionStrategy;
 import co.eci.blacklist.infrastructure.HostBlackListsDataSourceFacade;
 
 public class PerformanceRunner {
@@ -27,6 +28,7 @@ public class PerformanceRunner {
 
         Policies policies = new Policies();
         policies.setAlarmCount(5);
+        policies.setStrategy(ExecutionStrategy.THREAD_PER_SEGMENT); // 'threads' is the real parallelism
 
         // Saving results in a map (ordered)
         Map<Integer, Long> results = new LinkedHashMap<>();
@@ -34,9 +36,10 @@ public class PerformanceRunner {
         for (int n : threadCounts) {
             long sumMs = 0L;
             for (int i = 0; i < REPS; i++) {
-                BlacklistChecker checker = new BlacklistChecker(facade, policies);
-                MatchResult r = checker.checkHost(HOST, n);
-                sumMs += r.elapsedMs();
+                try (BlacklistChecker checker = new BlacklistChecker(facade, policies)) {
+                    MatchResult r = checker.checkHost(HOST, n);
+                    sumMs += r.elapsedMs();
+                }
             }
             long avg = sumMs / REPS;
             results.put(n, avg);
@@ -0,0 +1,107 @@
+package co.eci.blacklist.labs.part3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import co.eci.blacklist.domain.BlacklistChecker;
+import co.eci.blacklist.domain.Policies;
+import co.eci.blacklist.domain.execution.ExecutionStrategy;
+import co.eci.blacklist.infrastructure.HostBlackListsDataSourceFacade;
+
+/**
+ * Compares request latency and throughput of the execution strategies: for each
+ * one, {@code CLIENTS} concurrent clients issue checks for the three demo IPs
+ * (concentrated, dispersed, clean) during {@code SECONDS} seconds.
+ *
+ * @author ARSW-PANDILLA-2025
+ * @version 1.0
+ */
+public class StrategyComparisonRunner {
+
+    private static final String[] HOSTS = {"200.24.34.55", "202.24.34.55", "212.24.24.55"};
+    private static final int CLIENTS = Integer.getInteger("clients", 16);
+    private static final int SEGMENTS = Integer.getInteger("segments", 8);
+    private static final int SECONDS = Integer.getInteger("seconds", 5);
+
+    /**
+     * Main method to run the comparison.
+     *
+     * @param args Command line arguments.
+     * @throws Exception if an error occurs during execution.
+     */
+    public static void main(String[] args) throws Exception {
+        // The per-check INFO logs would dominate the measurement
+        Logger.getLogger("co.eci.blacklist").setLevel(Level.WARNING);
+
+        System.out.printf("clients=%d segments=%d duration=%ds cores=%d%n",
+                CLIENTS, SEGMENTS, SECONDS, Runtime.getRuntime().availableProcessors());
+        System.out.println("=".repeat(86));
+        System.out.printf("%-40s | %10s | %8s | %8s | %8s%n", "Strategy", "Req/s", "p50 ms", "p99 ms", "max ms");
+        System.out.println("=".repeat(86));
+        for (ExecutionStrategy strategy : ExecutionStrategy.values()) {
+            Policies policies = new Policies();
+            policies.setAlarmCount(5);
+            policies.setStrategy(strategy);
+            try (BlacklistChecker checker = new BlacklistChecker(HostBlackListsDataSourceFacade.getInstance(), policies)) {
+                run(checker, 1); // warm-up, discarded
+                long[] latencies = run(checker, SECONDS);
+                Arrays.sort(latencies);
+                System.out.printf("%-40s | %10.0f | %8.2f | %8.2f | %8.2f%n", checker.getStrategyName(),
+                        latencies.length / (double) SECONDS, percentile(latencies, 50) / 1e6,
+                        percentile(latencies, 99) / 1e6, latencies[latencies.length - 1] / 1e6);
+            }
+        }
+        System.out.println("=".repeat(86));
+    }
+
+    private static long[] run(BlacklistChecker checker, int seconds) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<long[]> perClient = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        List<Thread> clients = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            long[] lat = new long[1 << 20];
+            int idx = c;
+            perClient.add(lat);
+            counts.add(0);
+            Thread t = new Thread(() -> {
+                int n = 0;
+                while (running.get() && n < lat.length) {
+                    long t0 = System.nanoTime();
+                    checker.checkHost(HOSTS[(idx + n) % HOSTS.length], SEGMENTS);
+                    lat[n++] = System.nanoTime() - t0;
+                }
+                synchronized (counts) {
+                    counts.set(idx, n);
+                }
+            });
+            clients.add(t);
+            t.start();
+        }
+        Thread.sleep(seconds * 1000L);
+        running.set(false);
+        for (Thread t : clients) {
+            t.join();
+        }
+        int total = counts.stream().mapToInt(Integer::intValue).sum();
+        long[] all = new long[total];
+        int pos = 0;
+        for (int c = 0; c < CLIENTS; c++) {
+            System.arraycopy(perClient.get(c), 0, all, pos, counts.get(c));
+            pos += counts.get(c);
+        }
+        return all;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank))];
+    }
+}
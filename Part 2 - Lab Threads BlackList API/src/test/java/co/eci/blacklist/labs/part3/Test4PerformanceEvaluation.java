@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import co.eci.blacklist.domain.BlacklistChecker;
 import co.eci.blacklist.domain.MatchResult;
 import co.eci.blacklist.domain.Policies;
+import co.eci.blacklist.domain.execution.ExecutionStrategy;
 import co.eci.blacklist.infrastructure.HostBlackListsDataSourceFacade;
 
 /**
@@ -35,7 +36,9 @@ public class Test4PerformanceEvaluation {
     void setup() {
         try {
             facade = HostBlackListsDataSourceFacade.getInstance();
-            checker = new BlacklistChecker(facade, new Policies());
+            Policies policies = new Policies();
+            policies.setStrategy(ExecutionStrategy.THREAD_PER_SEGMENT); // 'threads' is the real parallelism
+            checker = new BlacklistChecker(facade, policies);
             physicalCores = Runtime.getRuntime().availableProcessors();
             
             assertNotNull(facade, "Facade should not be null");